@@ -0,0 +1,246 @@
+package seedu.noknock;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.Config;
+import seedu.noknock.commons.core.DataFileFormat;
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.util.ConfigUtil;
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.logic.Logic;
+import seedu.noknock.logic.LogicManager;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.ReadOnlyUserPrefs;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.util.SampleDataUtil;
+import seedu.noknock.storage.AddressBookFormatConverter;
+import seedu.noknock.storage.AddressBookStorage;
+import seedu.noknock.storage.AsyncAddressBookStorage;
+import seedu.noknock.storage.JournalAddressBookStorage;
+import seedu.noknock.storage.JsonUserPrefsStorage;
+import seedu.noknock.storage.Storage;
+import seedu.noknock.storage.StorageManager;
+import seedu.noknock.storage.UserPrefsStorage;
+
+/**
+ * The config, storage, model and logic of the application, wired together without any user interface.
+ * Shared by the JavaFX application and the headless runner.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Reads the config at {@code configFilePath}, or the default config if it is null, and creates the storage,
+     * model and logic it describes.
+     */
+    public static AppComponents init(Path configFilePath) {
+        Config config = initConfig(configFilePath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        importAddressBookInOtherFormat(userPrefs);
+        AddressBookStorage addressBookStorage = new AsyncAddressBookStorage(initAddressBookStorage(userPrefs));
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs);
+
+        Logic logic = new LogicManager(model, storage);
+
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the user prefs and writes any changes to the data file that are still pending.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to flush data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the storage for the data file in the format chosen in {@code userPrefs}.
+     * Json data files are saved through a journal, as rewriting the whole file on every change is slow.
+     */
+    private static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getAddressBookFileFormat() == DataFileFormat.JSON) {
+            return new JournalAddressBookStorage(addressBookFilePath);
+        }
+        return AddressBookFormatConverter.getStorage(userPrefs.getAddressBookFileFormat(), addressBookFilePath);
+    }
+
+    /**
+     * Converts the data file to the format chosen in {@code userPrefs} if it was saved in another format, such as
+     * after the user changed the format in the preference file.
+     */
+    private static void importAddressBookInOtherFormat(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        DataFileFormat format = userPrefs.getAddressBookFileFormat();
+        Optional<DataFileFormat> savedFormat = AddressBookFormatConverter.detectFormat(addressBookFilePath);
+        if (!savedFormat.isPresent() || savedFormat.get() == format) {
+            return;
+        }
+
+        if (savedFormat.get() == DataFileFormat.JSON) {
+            try {
+                // compacts any pending journal, so that no changes are left behind in it
+                JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(addressBookFilePath);
+                journalStorage.readAddressBook();
+                journalStorage.flushAddressBook();
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Journal of data file " + addressBookFilePath + " could not be compacted: "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        try {
+            AddressBookFormatConverter.convert(addressBookFilePath, addressBookFilePath, format);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + addressBookFilePath + " could not be converted to " + format + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * {@code storage} then refuses to save over the data file, so the data in it is not lost.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook that is not saved over it: "
+                    + StringUtil.getDetails(e));
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.noknock;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.logic.Logic;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.CommandResult;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Runs the application without a user interface, so that it can be used where there is no display.
+ * Commands are read one per line from a script file, or from standard input if no script is given, and the result
+ * of each command is written out as soon as it has run.
+ */
+public class HeadlessApp {
+
+    /** The command-line flag that runs the application without a user interface. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_CANNOT_READ_INPUT = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+
+    private final Logic logic;
+
+    /**
+     * Creates a HeadlessApp that executes commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs the application without a user interface. <br>
+     * Parameters are {@code --config=CONFIG_FILE_PATH}, as for the JavaFX application, and an optional path of the
+     * script to run.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > 0) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+
+        logger.info("=========================[ Initializing AddressBook headless ]======================");
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppComponents components = AppComponents.init(appParameters.getConfigPath());
+        HeadlessApp app = new HeadlessApp(components.getLogic());
+
+        int exitStatus;
+        try (BufferedReader input = openInput(unnamedParameters)) {
+            exitStatus = app.run(input, System.out, System.err);
+        } catch (IOException | InvalidPathException e) {
+            System.err.println("Could not read the commands: " + e.getMessage());
+            exitStatus = EXIT_CANNOT_READ_INPUT;
+        }
+
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        components.stop();
+        System.exit(exitStatus);
+    }
+
+    private static BufferedReader openInput(List<String> unnamedParameters) throws IOException {
+        if (unnamedParameters.isEmpty()) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Path.of(unnamedParameters.get(0)));
+    }
+
+    /**
+     * Executes each line of {@code input} as a command, until the input ends or a command exits the application.
+     * The feedback of each command is written to {@code output}, followed by the patients shown if the command did
+     * not change the address book, so that the output of a command does not depend on the commands before it. The
+     * error of each failed command is written to {@code error}.
+     * Blank lines are skipped.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if {@code input} cannot be read.
+     */
+    public int run(BufferedReader input, PrintStream output, PrintStream error) throws IOException {
+        requireNonNull(input);
+        requireNonNull(output);
+        requireNonNull(error);
+
+        int exitStatus = EXIT_SUCCESS;
+        String line;
+        while ((line = input.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            long addressBookVersion = logic.getAddressBookVersion();
+            try {
+                CommandResult commandResult = logic.execute(line);
+                output.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+                if (logic.getAddressBookVersion() == addressBookVersion) {
+                    printShownPatients(output);
+                }
+            } catch (CommandException | ParseException e) {
+                error.println(e.getMessage());
+                exitStatus = EXIT_COMMAND_FAILED;
+            } finally {
+                output.flush();
+                error.flush();
+            }
+        }
+        return exitStatus;
+    }
+
+    private void printShownPatients(PrintStream output) {
+        List<Patient> patients = logic.getFilteredPersonList();
+        for (int i = 0; i < patients.size(); i++) {
+            output.println((i + 1) + ". " + Messages.formatPatient(patients.get(i)));
+        }
+    }
+}
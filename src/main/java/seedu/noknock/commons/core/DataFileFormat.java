@@ -0,0 +1,11 @@
+package seedu.noknock.commons.core;
+
+/**
+ * The formats in which the address book data file can be saved.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, which advanced users can edit by hand. */
+    JSON,
+    /** A compact binary snapshot that is faster to load and save for large address books. */
+    BINARY
+}
@@ -0,0 +1,72 @@
+package seedu.noknock.commons.core;
+
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A change to a list, as the replacement of the elements {@code removed} starting at position {@code from} with the
+ * elements {@code added}. A single change can describe a whole batch of insertions, removals and replacements, such
+ * as all of the changes made to a list by one command.
+ */
+public record ListChange<T>(int from, List<T> removed, List<T> added) {
+
+    /**
+     * Creates a {@code ListChange} that replaces {@code removed}, starting at position {@code from}, with
+     * {@code added}. Both lists are copied.
+     */
+    public ListChange {
+        requireAllNonNull(removed, added);
+        if (from < 0) {
+            throw new IndexOutOfBoundsException(from);
+        }
+        removed = List.copyOf(removed);
+        added = List.copyOf(added);
+    }
+
+    /**
+     * Returns the change that turns {@code oldList} into {@code newList}, or an empty {@code Optional} if they
+     * have the same elements. Elements are compared by identity, so an element replaced with an equal but different
+     * instance is part of the change. <br>
+     * Only the elements between the longest common prefix and the longest common suffix of both lists are part of
+     * the change, so adding, removing or replacing a single element gives a change of just that element.
+     */
+    public static <T> Optional<ListChange<T>> between(List<T> oldList, List<T> newList) {
+        requireAllNonNull(oldList, newList);
+        int commonSize = Math.min(oldList.size(), newList.size());
+        int prefix = 0;
+        while (prefix < commonSize && oldList.get(prefix) == newList.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonSize - prefix
+                && oldList.get(oldList.size() - 1 - suffix) == newList.get(newList.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        if (prefix == oldList.size() && prefix == newList.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ListChange<>(prefix, oldList.subList(prefix, oldList.size() - suffix),
+                newList.subList(prefix, newList.size() - suffix)));
+    }
+
+    /**
+     * Applies this change to {@code list}, which must have the elements {@code removed} starting at position
+     * {@code from}. A single replaced element is set in place, and other changes remove all of {@code removed}
+     * before inserting all of {@code added}.
+     */
+    public void applyTo(List<T> list) {
+        if (removed.size() == 1 && added.size() == 1) {
+            list.set(from, added.get(0));
+            return;
+        }
+        if (!removed.isEmpty()) {
+            list.subList(from, from + removed.size()).clear();
+        }
+        if (!added.isEmpty()) {
+            list.addAll(from, added);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package seedu.noknock.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list that shares its structure with the lists it was made from.
+ * The elements are kept in a balanced tree, so getting an element takes O(log n) time, and making a list with one
+ * element added, replaced or removed takes O(log n) time and copies only O(log n) nodes, with the rest of the tree
+ * shared with the original list. Taking a snapshot of a {@code PersistentList} is free, as it never changes.
+ * Does not allow null elements.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> of() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list with the elements of {@code elements}, in the order of its iterator.
+     * Takes O(1) time if {@code elements} is already a {@code PersistentList}, or O(n) time otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> copyOf(Collection<? extends T> elements) {
+        requireAllNonNull(elements);
+        if (elements instanceof PersistentList<?> persistentList) {
+            return (PersistentList<T>) persistentList;
+        }
+        Object[] array = elements.toArray();
+        return array.length == 0 ? of() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with {@code element} added to the end of this list.
+     */
+    public PersistentList<T> withAdded(T element) {
+        return withAdded(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting the elements from {@code index}
+     * onwards.
+     */
+    public PersistentList<T> withAdded(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> withReplaced(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     */
+    public PersistentList<T> withRemoved(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return iteratorFrom(0);
+    }
+
+    /**
+     * Returns an iterator over the elements from {@code index} to the end of this list.
+     * Finding the first element takes O(log n) time, and each element after it O(1) time on average.
+     */
+    public Iterator<T> iteratorFrom(int index) {
+        Objects.checkIndex(index, size() + 1);
+        return new InOrderIterator<>(root, index);
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        int index = 0;
+        for (T current : this) {
+            if (current.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof List<?> otherList)) {
+            return false;
+        }
+        if (other instanceof PersistentList<?> otherPersistentList && otherPersistentList.root == root) {
+            return true;
+        }
+        if (otherList.size() != size()) {
+            return false;
+        }
+
+        Iterator<?> otherIterator = otherList.iterator();
+        for (T element : this) {
+            if (!element.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    //=========== Balanced tree ==============================================================================
+
+    /**
+     * A node of an AVL tree ordered by position, which is never changed once made.
+     */
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), (T) elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, element), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        }
+        return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node with {@code left}, {@code value} and {@code right}, rotated so that the heights of its two
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, keeping the nodes whose elements are still to come on a stack.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root, int index) {
+            Node<T> node = root;
+            while (node != null) {
+                int leftSize = sizeOf(node.left);
+                if (index <= leftSize) {
+                    path.push(node);
+                    node = node.left;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            for (Node<T> next = node.right; next != null; next = next.left) {
+                path.push(next);
+            }
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.noknock.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * The positions of distinct keys in a list, such as the positions of the elements of a list by one of their fields.
+ * Each key is kept in a node of a balanced tree ordered by position, and is mapped to its node, so the position of a
+ * key is worked out from the sizes of the subtrees on the path to the root. Looking up the position of a key, and
+ * inserting or removing a key, takes O(log n) time on average, as the positions of the keys after it are never
+ * stored.
+ * Does not allow null keys.
+ */
+public class PositionIndex<K> {
+
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private final SplittableRandom priorities = new SplittableRandom();
+    private Node<K> root;
+
+    /**
+     * Returns true if {@code key} is in the index.
+     */
+    public boolean contains(K key) {
+        requireNonNull(key);
+        return nodes.containsKey(key);
+    }
+
+    /**
+     * Returns the position of {@code key}, or -1 if it is not in the index.
+     */
+    public int positionOf(K key) {
+        requireNonNull(key);
+        Node<K> node = nodes.get(key);
+        return node == null ? -1 : rank(node);
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Inserts {@code key} at {@code position}, shifting the keys from {@code position} onwards.
+     * {@code key} must not already be in the index.
+     */
+    public void add(int position, K key) {
+        requireNonNull(key);
+        Objects.checkIndex(position, size() + 1);
+        if (nodes.containsKey(key)) {
+            throw new IllegalArgumentException("Duplicate key: " + key);
+        }
+
+        Node<K> node = new Node<>(key, priorities.nextInt());
+        nodes.put(key, node);
+        Node<K>[] parts = split(root, position);
+        setRoot(merge(merge(parts[0], node), parts[1]));
+    }
+
+    /**
+     * Adds {@code key} after all of the keys in the index.
+     * {@code key} must not already be in the index.
+     */
+    public void add(K key) {
+        add(size(), key);
+    }
+
+    /**
+     * Removes {@code key}, shifting the keys after it.
+     *
+     * @return the position {@code key} was at, or -1 if it was not in the index.
+     */
+    public int remove(K key) {
+        requireNonNull(key);
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return -1;
+        }
+
+        int position = rank(node);
+        Node<K>[] before = split(root, position);
+        Node<K>[] after = split(before[1], 1);
+        setRoot(merge(before[0], after[1]));
+        return position;
+    }
+
+    /**
+     * Replaces {@code oldKey} with {@code newKey} at the same position.
+     * {@code oldKey} must be in the index, and {@code newKey} must not be unless it equals {@code oldKey}.
+     */
+    public void replace(K oldKey, K newKey) {
+        requireAllNonNull(oldKey, newKey);
+        if (!oldKey.equals(newKey) && nodes.containsKey(newKey)) {
+            throw new IllegalArgumentException("Duplicate key: " + newKey);
+        }
+        Node<K> node = nodes.remove(oldKey);
+        if (node == null) {
+            throw new IllegalArgumentException("No such key: " + oldKey);
+        }
+        node.key = newKey;
+        nodes.put(newKey, node);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code keys}, in order, in O(n) time.
+     * {@code keys} must not contain duplicates.
+     */
+    public void setAll(List<K> keys) {
+        requireAllNonNull(keys);
+        nodes.clear();
+        root = null;
+
+        // builds the tree from the keys in order, keeping the nodes on its rightmost path on a stack
+        Deque<Node<K>> rightmostPath = new ArrayDeque<>();
+        for (K key : keys) {
+            Node<K> node = new Node<>(key, priorities.nextInt());
+            if (nodes.put(key, node) != null) {
+                nodes.clear();
+                throw new IllegalArgumentException("Duplicate key: " + key);
+            }
+            Node<K> lastPopped = null;
+            while (!rightmostPath.isEmpty() && rightmostPath.peek().priority < node.priority) {
+                lastPopped = rightmostPath.pop();
+            }
+            node.left = lastPopped;
+            if (!rightmostPath.isEmpty()) {
+                rightmostPath.peek().right = node;
+            }
+            rightmostPath.push(node);
+        }
+        setRoot(rightmostPath.isEmpty() ? null : updateAll(rightmostPath.peekLast()));
+    }
+
+    //=========== Balanced tree ==============================================================================
+
+    /**
+     * A node of a treap ordered by position, in which every node has a higher priority than its children.
+     */
+    private static final class Node<K> {
+        private K key;
+        private final int priority;
+        private Node<K> left;
+        private Node<K> right;
+        private Node<K> parent;
+        private int size = 1;
+
+        Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <K> int rank(Node<K> node) {
+        int position = sizeOf(node.left);
+        for (Node<K> child = node; child.parent != null; child = child.parent) {
+            if (child == child.parent.right) {
+                position += sizeOf(child.parent.left) + 1;
+            }
+        }
+        return position;
+    }
+
+    private void setRoot(Node<K> node) {
+        root = node;
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    /**
+     * Recomputes the size of {@code node} from its children, and links the children back to it.
+     */
+    private static <K> Node<K> update(Node<K> node) {
+        node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+        return node;
+    }
+
+    private static <K> Node<K> updateAll(Node<K> node) {
+        if (node.left != null) {
+            updateAll(node.left);
+        }
+        if (node.right != null) {
+            updateAll(node.right);
+        }
+        return update(node);
+    }
+
+    /**
+     * Splits the tree at {@code node} into the tree of its first {@code count} keys and the tree of the rest.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> Node<K>[] split(Node<K> node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Node<K>[] parts = split(node.left, count);
+            node.left = parts[1];
+            parts[1] = update(node);
+            return parts;
+        }
+        Node<K>[] parts = split(node.right, count - leftSize - 1);
+        node.right = parts[0];
+        parts[0] = update(node);
+        return parts;
+    }
+
+    /**
+     * Joins the trees at {@code first} and {@code second}, with the keys of {@code first} before those of
+     * {@code second}.
+     */
+    private static <K> Node<K> merge(Node<K> first, Node<K> second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        } else if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            return update(first);
+        }
+        second.left = merge(first, second.left);
+        return update(second);
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.noknock.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +18,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +83,88 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, 0, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces {@code file} with the content written by {@code contentWriter}, such that a crash at any point
+     * leaves either the old or the new content in place.
+     * The content is written to a temporary file and synced to disk, then renamed over {@code file}.
+     * Before the rename, the previous {@code backupGenerations} versions of {@code file} are rotated into
+     * backup files, the newest being {@code getBackupPath(file, 1)}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, int backupGenerations, ContentWriter contentWriter)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                contentWriter.writeTo(out);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (backupGenerations > 0 && isFileExists(file)) {
+            for (int generation = backupGenerations; generation > 1; generation--) {
+                Path older = getBackupPath(file, generation - 1);
+                if (isFileExists(older)) {
+                    moveAtomically(older, getBackupPath(file, generation));
+                }
+            }
+            moveAtomically(file, getBackupPath(file, 1));
+        }
+        moveAtomically(tempFile, file);
+        syncParentDir(file);
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th most recent backup of {@code file}, counting from 1.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        assert generation > 0;
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the directory entry of {@code file} to disk where the platform allows it, so that a completed rename
+     * survives a power loss.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (parentDir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms, such as Windows, cannot open directories; the rename itself is still atomic
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
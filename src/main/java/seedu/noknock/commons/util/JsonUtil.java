@@ -2,19 +2,30 @@ package seedu.noknock.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +33,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.noknock.commons.core.LogsCenter;
 import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +51,9 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -92,6 +107,108 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Reads the array stored under {@code arrayFieldName} in the top-level JSON object of the given file, passing
+     * each element to {@code handler} as soon as it is parsed, so that the whole array is never held in memory.
+     * Other fields of the top-level object are skipped.
+     *
+     * @param filePath cannot be null, and the file must exist.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @throws IOException if the file could not be read or is not valid JSON of the expected shape.
+     * @throws IllegalValueException if {@code handler} rejects an element.
+     */
+    public static <T> void readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementHandler<T> handler) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array for " + arrayFieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    handler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number stored under {@code fieldName} in the top-level JSON object of the given file, or an empty
+     * {@code OptionalLong} if there is no such number. Only the fields before it are parsed.
+     *
+     * @param filePath cannot be null, and the file must exist.
+     * @throws IOException if the file could not be read or is not a JSON object.
+     */
+    public static OptionalLong readJsonNumberField(Path filePath, String fieldName) throws IOException {
+        requireNonNull(filePath);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String currentFieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (currentFieldName.equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    return OptionalLong.of(parser.getLongValue());
+                }
+                parser.skipChildren();
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Writes the given elements as an array under {@code arrayFieldName} in a top-level JSON object, writing each
+     * element as soon as it is produced by {@code elements}.
+     *
+     * @param out cannot be null, and is left open.
+     * @throws IOException if there was an error during writing to the stream
+     */
+    public static <T> void writeJsonArray(OutputStream out, String arrayFieldName, Iterator<T> elements)
+            throws IOException {
+        writeJsonArray(out, Map.of(), arrayFieldName, elements);
+    }
+
+    /**
+     * Similar to {@link #writeJsonArray(OutputStream, String, Iterator)}, but writes the number fields in
+     * {@code numberFields} before the array, so that they can be read back quickly with
+     * {@link #readJsonNumberField(Path, String)}.
+     */
+    public static <T> void writeJsonArray(OutputStream out, Map<String, Long> numberFields, String arrayFieldName,
+            Iterator<T> elements) throws IOException {
+        requireNonNull(out);
+        requireNonNull(numberFields);
+        requireNonNull(elements);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            for (Map.Entry<String, Long> field : numberFields.entrySet()) {
+                generator.writeNumberField(field.getKey(), field.getValue());
+            }
+            generator.writeArrayFieldStart(arrayFieldName);
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +228,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles one element of a JSON array as it is read.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,113 @@
+package seedu.noknock.logic;
+
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientNameSearch;
+
+/**
+ * Searches patient names on a background thread as a search query is typed, matching words by prefix.
+ * Starting a search cancels any search before it that has not finished.
+ * When a query only adds letters to the words of the last finished query, and the patients have not changed since,
+ * only the patients that matched the last query are searched again.
+ */
+public class LivePatientSearch {
+
+    private static final Logger logger = LogsCenter.getLogger(LivePatientSearch.class);
+
+    private final int maxResults;
+    private final ExecutorService searcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "patient-searcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong latestSearchId = new AtomicLong();
+    /** The last search that finished. Only used on the searcher thread. */
+    private FinishedSearch lastFinishedSearch;
+
+    /**
+     * Creates a {@code LivePatientSearch} that returns up to {@code maxResults} patients per search.
+     */
+    public LivePatientSearch(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Starts searching {@code patients} for names with a word starting with any of the words in {@code query}.
+     * {@code patients} must not be modified afterwards, and {@code patientsVersion} must change whenever a
+     * different list of patients is searched.
+     *
+     * @return The best matches first, or a cancelled future if another search is started before this one finishes,
+     *     or a future completed with the exception that the search failed with.
+     */
+    public CompletableFuture<List<Patient>> search(String query, List<Patient> patients, long patientsVersion) {
+        requireAllNonNull(query, patients);
+        long searchId = latestSearchId.incrementAndGet();
+        List<String> keywords = Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(keyword -> !keyword.isEmpty())
+                .toList();
+
+        CompletableFuture<List<Patient>> result = new CompletableFuture<>();
+        searcher.execute(() -> {
+            BooleanSupplier isCancelled = () -> latestSearchId.get() != searchId;
+            try {
+                List<Patient> candidates = patients;
+                if (lastFinishedSearch != null && lastFinishedSearch.canBeNarrowedTo(keywords, patientsVersion)) {
+                    candidates = lastFinishedSearch.matches;
+                }
+                List<Patient> matches =
+                        PatientNameSearch.searchByPrefix(candidates, keywords, Integer.MAX_VALUE, isCancelled);
+                lastFinishedSearch = new FinishedSearch(keywords, patientsVersion, matches);
+                logger.fine("Searched " + candidates.size() + " patients for " + keywords + ": "
+                        + matches.size() + " matches");
+                result.complete(matches.subList(0, Math.min(matches.size(), maxResults)));
+            } catch (CancellationException ce) {
+                result.cancel(false);
+            } catch (RuntimeException e) {
+                logger.warning("Search for " + keywords + " failed: " + e);
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Cancels the search that is in progress, if any.
+     */
+    public void cancel() {
+        latestSearchId.incrementAndGet();
+    }
+
+    /**
+     * A search that ran to completion, with all of its matches.
+     */
+    private record FinishedSearch(List<String> keywords, long patientsVersion, List<Patient> matches) {
+        /**
+         * Returns true if every patient that matches {@code newKeywords} in the same patients also matched this
+         * search, which holds when each new keyword starts with the keyword in the same position in this search.
+         */
+        boolean canBeNarrowedTo(List<String> newKeywords, long newPatientsVersion) {
+            if (newPatientsVersion != patientsVersion || newKeywords.size() != keywords.size()) {
+                return false;
+            }
+            for (int i = 0; i < keywords.size(); i++) {
+                if (!newKeywords.get(i).startsWith(keywords.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
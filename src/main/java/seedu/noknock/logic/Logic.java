@@ -1,9 +1,12 @@
 package seedu.noknock.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
-import javafx.collections.ObservableList;
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.commons.core.ListChange;
 import seedu.noknock.logic.commands.CommandResult;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.logic.parser.exceptions.ParseException;
@@ -23,6 +26,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Starts finding the patients whose names have a word starting with any of the words in {@code query}, on a
+     * background thread so that the caller is never blocked. Starting another search, or executing a command,
+     * cancels the search if it has not finished.
+     *
+     * @return The best matches first, up to the number that {@code find-patient} lists.
+     */
+    CompletableFuture<List<Patient>> searchPatientsAsYouType(String query);
+
+    /**
+     * Cancels the search started by {@link #searchPatientsAsYouType(String)}, if it has not finished.
+     */
+    void cancelPatientSearch();
+
+    /**
+     * Shows only {@code patients}, in the given order, in the filtered list of persons.
+     */
+    void showPatients(List<Patient> patients);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,8 +52,28 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that changes whenever the AddressBook is modified.
+     *
+     * @see seedu.noknock.model.Model#getAddressBookVersion()
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the number of commands after which saving was skipped because the AddressBook was unchanged.
+     */
+    long getSkippedSaveCount();
+
     /** Returns an unmodifiable view of the filtered list of persons */
-    ObservableList<Patient> getFilteredPersonList();
+    List<Patient> getFilteredPersonList();
+
+    /**
+     * Adds a listener that is given the filtered list of persons and then each change to it, on the thread that
+     * makes the changes.
+     *
+     * @see seedu.noknock.model.Model#addFilteredPatientListListener(Consumer)
+     */
+    void addFilteredPersonListListener(Consumer<ListChange<Patient>> listener);
 
     /**
      * Returns the user prefs' address book file path.
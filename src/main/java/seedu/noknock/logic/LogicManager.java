@@ -1,15 +1,21 @@
 package seedu.noknock.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.commons.core.ListChange;
 import seedu.noknock.commons.core.LogsCenter;
 import seedu.noknock.logic.commands.Command;
 import seedu.noknock.logic.commands.CommandResult;
+import seedu.noknock.logic.commands.FindPatientCommand;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.logic.parser.AddressBookParser;
 import seedu.noknock.logic.parser.exceptions.ParseException;
@@ -32,45 +38,95 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final LivePatientSearch livePatientSearch = new LivePatientSearch(FindPatientCommand.MAX_RESULTS);
+    /** Version of the address book last written to or loaded from storage, or -1 if the last save failed. */
+    private long savedAddressBookVersion;
+    private long skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is taken to be the one in {@code storage}, so it is only saved once changed.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        livePatientSearch.cancel();
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        model.commitAddressBook();
+
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipping save (" + skippedSaveCount + " skipped so far)");
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
+            savedAddressBookVersion = -1;
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            savedAddressBookVersion = -1;
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        savedAddressBookVersion = addressBookVersion;
 
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<List<Patient>> searchPatientsAsYouType(String query) {
+        requireNonNull(query);
+        return livePatientSearch.search(query, model.getAddressBook().snapshot().getPatientList(),
+                model.getAddressBookVersion());
+    }
+
+    @Override
+    public void cancelPatientSearch() {
+        livePatientSearch.cancel();
+    }
+
+    @Override
+    public void showPatients(List<Patient> patients) {
+        FindPatientCommand.showPatientsInOrder(model, patients);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
     @Override
-    public ObservableList<Patient> getFilteredPersonList() {
+    public long getAddressBookVersion() {
+        return model.getAddressBookVersion();
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public List<Patient> getFilteredPersonList() {
         return model.getFilteredPatientList();
     }
 
+    @Override
+    public void addFilteredPersonListListener(Consumer<ListChange<Patient>> listener) {
+        model.addFilteredPatientListListener(listener);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
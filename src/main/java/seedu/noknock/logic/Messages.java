@@ -1,5 +1,6 @@
 package seedu.noknock.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -7,6 +8,7 @@ import java.util.stream.Stream;
 import seedu.noknock.logic.parser.Prefix;
 import seedu.noknock.model.person.Person;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * Container for user visible messages.
@@ -19,6 +21,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_NOK_DISPLAYED_INDEX = "The Next-of-Kin index provided is invalid";
     public static final String MESSAGE_VIEW_PATIENT_SUCCESS = "Viewing Patient: %1$s";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_DUPLICATE_IC = "Another patient already has this IC";
     public static final String MESSAGE_INVALID_SESSION_INDEX = "The caring session index provided is invalid";
     public static final String MESSAGE_DUPLICATE_FIELDS =
         "Multiple values specified for the following single-valued field(s): ";
@@ -52,4 +55,18 @@ public class Messages {
         builder.append(session.getCareType() + " on " + session.getDate() + " at " + session.getTime());
         return builder.toString();
     }
+
+    /**
+     * Formats each of {@code sessions} for display to the user on its own numbered line, with its patient.
+     */
+    public static String formatPatientSessions(List<PatientCaringSession> sessions) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sessions.size(); i++) {
+            PatientCaringSession session = sessions.get(i);
+            builder.append("\n").append(i + 1).append(". ")
+                    .append(formatPatient(session.getPatient())).append(": ")
+                    .append(formatSession(session.getCaringSession()));
+        }
+        return builder.toString();
+    }
 }
@@ -7,7 +7,6 @@ import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.noknock.commons.core.index.Index;
@@ -67,16 +66,12 @@ public class AddCaringSessionCommand extends Command {
         }
 
         Patient patient = patientList.get(patientIndex.getZeroBased());
-        List<CaringSession> caringSessionList = patient.getCaringSessionList();
 
         if (patient.hasOverlappingSession(sessionToAdd)) {
             throw new CommandException(String.format(MESSAGE_HAS_OVERLAPPING_SESSION, sessionToAdd.getCareType()));
         }
 
-        List<CaringSession> updatedCaringSessionList = new ArrayList<>(caringSessionList);
-        updatedCaringSessionList.add(sessionToAdd);
-
-        Patient editedPatient = patient.withCaringSessionList(updatedCaringSessionList);
+        Patient editedPatient = patient.withCaringSessionsAdded(List.of(sessionToAdd));
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
@@ -6,7 +6,6 @@ import static seedu.noknock.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.noknock.commons.core.index.Index;
@@ -70,10 +69,7 @@ public class AddNextOfKinCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_NOK);
         }
 
-        List<NextOfKin> updatedNokList = new ArrayList<>(nokList);
-        updatedNokList.add(nokToAdd);
-
-        Patient editedPatient = patient.withNextOfKinList(updatedNokList);
+        Patient editedPatient = patient.withNextOfKinAdded(nokToAdd);
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
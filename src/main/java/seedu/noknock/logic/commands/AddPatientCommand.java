@@ -54,6 +54,9 @@ public class AddPatientCommand extends Command {
         if (model.hasPatient(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PATIENT);
         }
+        if (model.getPatientAttributeIndex().getPatientWithIC(toAdd.getIC()).isPresent()) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_IC);
+        }
 
         model.addPatient(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.formatPatient(toAdd)));
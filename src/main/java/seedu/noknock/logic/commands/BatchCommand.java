@@ -0,0 +1,98 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+
+/**
+ * Runs the commands of a script as a single transaction.
+ * The commands are run against a copy of the address book, which replaces the address book only once every command
+ * has succeeded. The patient list is therefore changed, and the address book saved, once for the whole script,
+ * and nothing is changed at all if any command fails.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script, one per line, "
+        + "as a single change. If any command fails, none of the commands take effect.\n"
+        + "The script is read from a file, or from the lines after the command word. "
+        + "Blank lines and lines starting with " + COMMENT_PREFIX + " are ignored.\n"
+        + "Parameters: FILE_PATH\n"
+        + "Example: " + COMMAND_WORD + " ward2A.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands:%2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d failed, so no changes were made: %2$s";
+
+    private final List<ScriptCommand> scriptCommands;
+
+    /**
+     * Creates a BatchCommand that runs {@code scriptCommands} in order.
+     */
+    public BatchCommand(List<ScriptCommand> scriptCommands) {
+        requireNonNull(scriptCommands);
+        this.scriptCommands = List.copyOf(scriptCommands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Model workingModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+
+        StringBuilder feedback = new StringBuilder();
+        for (ScriptCommand scriptCommand : scriptCommands) {
+            try {
+                CommandResult result = scriptCommand.command().execute(workingModel);
+                feedback.append("\n").append(result.getFeedbackToUser());
+            } catch (CommandException ce) {
+                throw new CommandException(
+                        String.format(MESSAGE_COMMAND_FAILED, scriptCommand.lineNumber(), ce.getMessage()), ce);
+            }
+        }
+
+        model.setAddressBook(workingModel.getAddressBook());
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, scriptCommands.size(), feedback));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherCommand = (BatchCommand) other;
+        return scriptCommands.equals(otherCommand.scriptCommands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("scriptCommands", scriptCommands)
+            .toString();
+    }
+
+    /**
+     * A command in a script, with the number of the line it was parsed from.
+     */
+    public record ScriptCommand(int lineNumber, Command command) {
+        /**
+         * Creates a {@code ScriptCommand} for {@code command}, parsed from line {@code lineNumber}.
+         */
+        public ScriptCommand {
+            requireNonNull(command);
+        }
+    }
+}
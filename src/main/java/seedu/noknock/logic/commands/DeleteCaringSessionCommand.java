@@ -3,7 +3,6 @@ package seedu.noknock.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.noknock.commons.core.index.Index;
@@ -54,10 +53,7 @@ public class DeleteCaringSessionCommand extends Command {
         }
 
         CaringSession sessionToDelete = sessions.get(sessionIndex.getZeroBased());
-        List<CaringSession> updatedSessions = new ArrayList<>(sessions);
-        updatedSessions.remove(sessionToDelete);
-
-        Patient updatedPatient = patient.withCaringSessionList(updatedSessions);
+        Patient updatedPatient = patient.withCaringSessionRemoved(sessionIndex.getZeroBased());
         model.setPatient(patient, updatedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
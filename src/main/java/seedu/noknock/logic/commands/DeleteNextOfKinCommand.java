@@ -3,7 +3,6 @@ package seedu.noknock.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.noknock.commons.core.index.Index;
@@ -59,10 +58,7 @@ public class DeleteNextOfKinCommand extends Command {
         }
 
         NextOfKin nokToDelete = nokList.get(nokIndex.getZeroBased());
-        List<NextOfKin> updatedNokList = new ArrayList<>(nokList);
-        updatedNokList.remove(nokToDelete);
-
-        Patient editedPatient = patient.withNextOfKinList(updatedNokList);
+        Patient editedPatient = patient.withNextOfKinRemoved(nokIndex.getZeroBased());
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
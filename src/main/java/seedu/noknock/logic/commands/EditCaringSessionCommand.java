@@ -8,7 +8,6 @@ import static seedu.noknock.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -107,10 +106,7 @@ public class EditCaringSessionCommand extends Command {
         CaringSession sessionToEdit = sessionList.get(sessionIndex.getZeroBased());
         CaringSession editedSession = createEditedSession(sessionToEdit, editSessionDescriptor);
 
-        List<CaringSession> updatedSessionList = new ArrayList<>(sessionList);
-        updatedSessionList.set(sessionIndex.getZeroBased(), editedSession);
-
-        Patient editedPatient = patient.withCaringSessionList(updatedSessionList);
+        Patient editedPatient = patient.withCaringSessionReplaced(sessionIndex.getZeroBased(), editedSession);
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
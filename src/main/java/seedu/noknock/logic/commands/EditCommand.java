@@ -81,6 +81,10 @@ public class EditCommand extends Command {
         if (!patientToEdit.isSamePerson(editedPatient) && model.hasPatient(editedPatient)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
+        if (!patientToEdit.getIC().equals(editedPatient.getIC())
+                && model.getPatientAttributeIndex().getPatientWithIC(editedPatient.getIC()).isPresent()) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_IC);
+        }
 
         model.setPatient(patientToEdit, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
@@ -6,7 +6,6 @@ import static seedu.noknock.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -95,10 +94,7 @@ public class EditNextOfKinCommand extends Command {
         NextOfKin nokToEdit = nokList.get(nokIndex.getZeroBased());
         NextOfKin editedNok = createEditedNok(nokToEdit, editNextOfKinDescriptor);
 
-        List<NextOfKin> updatedNokList = new ArrayList<>(nokList);
-        updatedNokList.set(nokIndex.getZeroBased(), editedNok);
-
-        Patient editedPatient = patient.withNextOfKinList(updatedNokList);
+        Patient editedPatient = patient.withNextOfKinReplaced(nokIndex.getZeroBased(), editedNok);
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
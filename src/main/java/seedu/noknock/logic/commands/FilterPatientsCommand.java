@@ -0,0 +1,67 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_IC;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_WARD;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.PatientAttributesMatchPredicate;
+
+/**
+ * Lists the patients with a given IC, in a given ward or with given tags.
+ * The patients are looked up in the model's index of ICs, wards and tags.
+ */
+public class FilterPatientsCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter-patients";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the patients that have the given IC, "
+        + "are in the given ward and have all of the given tags. At least one of them must be given.\n"
+        + "Parameters: "
+        + "[" + PREFIX_IC + "IC] "
+        + "[" + PREFIX_WARD + "WARD] "
+        + "[" + PREFIX_TAG + "TAG]...\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_WARD + "2A " + PREFIX_TAG + "diabetic";
+
+    private final PatientAttributesMatchPredicate predicate;
+
+    /**
+     * Creates a FilterPatientsCommand that lists the patients matching {@code predicate}.
+     */
+    public FilterPatientsCommand(PatientAttributesMatchPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPatientList(predicate.withIndex(model.getPatientAttributeIndex()));
+        return new CommandResult(
+            String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FilterPatientsCommand)) {
+            return false;
+        }
+
+        FilterPatientsCommand otherCommand = (FilterPatientsCommand) other;
+        return predicate.equals(otherCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("predicate", predicate)
+            .toString();
+    }
+}
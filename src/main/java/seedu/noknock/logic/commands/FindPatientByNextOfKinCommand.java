@@ -29,7 +29,7 @@ public class FindPatientByNextOfKinCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPatientList(predicate);
+        model.updateFilteredPatientList(predicate.withIndex(model.getPatientNameIndex()));
         return new CommandResult(
             String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
     }
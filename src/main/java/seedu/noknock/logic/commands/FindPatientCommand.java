@@ -1,25 +1,42 @@
 package seedu.noknock.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.noknock.commons.util.ToStringBuilder;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.person.PatientNameContainsKeywordsPredicate;
+import seedu.noknock.model.person.PatientNameSearch;
 
 /**
- * Finds and lists all patients in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists the patients in address book whose names best match the argument keywords, best match first.
+ * Keyword matching is case insensitive, and also matches names that start with a keyword or that are a few
+ * typing mistakes away from it.
  */
 public class FindPatientCommand extends Command {
 
     public static final String COMMAND_WORD = "find-patient";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the patients whose names best match "
+            + "the specified keywords (case-insensitive, partial or misspelt words allowed) and displays them as a "
+            + "list with index numbers, best match first.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
+    /** Maximum number of patients listed, so that short keywords that match many names stay quick to rank. */
+    public static final int MAX_RESULTS = 100;
+
+    public static final String MESSAGE_RESULTS_CAPPED = "More than %1$d patients match, so only the %1$d best "
+            + "matches are listed. Add more keywords to narrow down the search.";
+
     private final PatientNameContainsKeywordsPredicate predicate;
 
     public FindPatientCommand(PatientNameContainsKeywordsPredicate predicate) {
@@ -29,9 +46,37 @@ public class FindPatientCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPatientList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+        if (predicate.getKeywords().isEmpty()) {
+            model.updateFilteredPatientList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+        }
+
+        // one more result than is listed tells whether any matches were left out
+        List<Patient> results = new PatientNameSearch(model.getPatientNameIndex())
+                .search(predicate.getKeywords(), MAX_RESULTS + 1);
+        boolean isCapped = results.size() > MAX_RESULTS;
+        showPatientsInOrder(model, isCapped ? results.subList(0, MAX_RESULTS) : results);
+        String feedback =
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size());
+        if (isCapped) {
+            feedback += "\n" + String.format(MESSAGE_RESULTS_CAPPED, MAX_RESULTS);
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Shows only {@code patients}, in the given order, in the filtered patient list of {@code model}.
+     * Patients are matched by name, so that a listed patient stays listed while their details are edited.
+     */
+    public static void showPatientsInOrder(Model model, List<Patient> patients) {
+        requireAllNonNull(model, patients);
+        Map<Name, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < patients.size(); i++) {
+            ranks.put(patients.get(i).getName(), i);
+        }
+        model.updateFilteredPatientList(patient -> ranks.containsKey(patient.getName()),
+                Comparator.comparing(patient -> ranks.get(patient.getName())));
     }
 
     @Override
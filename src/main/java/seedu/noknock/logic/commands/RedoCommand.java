@@ -0,0 +1,30 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+
+/**
+ * Reapplies the change to the address book that was last undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change to the address book";
+    public static final String MESSAGE_FAILURE = "There is no undone change to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
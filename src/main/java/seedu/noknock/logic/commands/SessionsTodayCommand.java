@@ -0,0 +1,63 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.session.PatientCaringSession;
+
+/**
+ * Lists the caring sessions of all patients that are scheduled for today.
+ */
+public class SessionsTodayCommand extends Command {
+
+    public static final String COMMAND_WORD = "sessions-today";
+
+    public static final String MESSAGE_SUCCESS = "Today's caring sessions (%1$s):%2$s";
+    public static final String MESSAGE_NO_SESSIONS = "No caring sessions scheduled for today";
+
+    private final LocalDate today;
+
+    /**
+     * Creates a SessionsTodayCommand that lists the sessions on {@code today}.
+     */
+    public SessionsTodayCommand(LocalDate today) {
+        requireNonNull(today);
+        this.today = today;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<PatientCaringSession> sessions = model.getSessionsBetween(today, today);
+        if (sessions.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SESSIONS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, today, Messages.formatPatientSessions(sessions)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SessionsTodayCommand)) {
+            return false;
+        }
+
+        SessionsTodayCommand otherCommand = (SessionsTodayCommand) other;
+        return today.equals(otherCommand.today);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("today", today)
+            .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.session.PatientCaringSession;
+
+/**
+ * Lists the caring sessions of all patients that are scheduled for the current week, from Monday to Sunday.
+ */
+public class SessionsWeekCommand extends Command {
+
+    public static final String COMMAND_WORD = "sessions-week";
+
+    public static final String MESSAGE_SUCCESS = "This week's caring sessions (%1$s to %2$s):%3$s";
+    public static final String MESSAGE_NO_SESSIONS = "No caring sessions scheduled for this week";
+
+    private final LocalDate firstDayOfWeek;
+    private final LocalDate lastDayOfWeek;
+
+    /**
+     * Creates a SessionsWeekCommand that lists the sessions in the week that {@code today} is in.
+     */
+    public SessionsWeekCommand(LocalDate today) {
+        requireNonNull(today);
+        firstDayOfWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        lastDayOfWeek = firstDayOfWeek.plusDays(6);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<PatientCaringSession> sessions = model.getSessionsBetween(firstDayOfWeek, lastDayOfWeek);
+        if (sessions.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SESSIONS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, firstDayOfWeek, lastDayOfWeek,
+                Messages.formatPatientSessions(sessions)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SessionsWeekCommand)) {
+            return false;
+        }
+
+        SessionsWeekCommand otherCommand = (SessionsWeekCommand) other;
+        return firstDayOfWeek.equals(otherCommand.firstDayOfWeek);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("firstDayOfWeek", firstDayOfWeek)
+            .add("lastDayOfWeek", lastDayOfWeek)
+            .toString();
+    }
+}
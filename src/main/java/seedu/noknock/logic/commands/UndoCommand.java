@@ -0,0 +1,30 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+
+/**
+ * Reverts the address book to the state before the last change.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change to the address book";
+    public static final String MESSAGE_FAILURE = "There is no change to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.noknock.logic.parser;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.time.LocalDate;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -11,6 +12,7 @@ import seedu.noknock.commons.core.LogsCenter;
 import seedu.noknock.logic.commands.AddCaringSessionCommand;
 import seedu.noknock.logic.commands.AddNextOfKinCommand;
 import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.BatchCommand;
 import seedu.noknock.logic.commands.ClearCommand;
 import seedu.noknock.logic.commands.Command;
 import seedu.noknock.logic.commands.DeleteCaringSessionCommand;
@@ -22,12 +24,17 @@ import seedu.noknock.logic.commands.EditCommand;
 import seedu.noknock.logic.commands.EditNextOfKinCommand;
 import seedu.noknock.logic.commands.EditPatientCommand;
 import seedu.noknock.logic.commands.ExitCommand;
+import seedu.noknock.logic.commands.FilterPatientsCommand;
 import seedu.noknock.logic.commands.FindCommand;
 import seedu.noknock.logic.commands.FindPatientByNextOfKinCommand;
 import seedu.noknock.logic.commands.FindPatientCommand;
 import seedu.noknock.logic.commands.HelpCommand;
 import seedu.noknock.logic.commands.ListCommand;
 import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.commands.RedoCommand;
+import seedu.noknock.logic.commands.SessionsTodayCommand;
+import seedu.noknock.logic.commands.SessionsWeekCommand;
+import seedu.noknock.logic.commands.UndoCommand;
 import seedu.noknock.logic.commands.ViewPatientCommand;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 
@@ -38,8 +45,10 @@ public class AddressBookParser {
 
     /**
      * Used for initial separation of command word and args.
+     * The arguments may span several lines, for commands such as {@code batch} that take a script.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Pattern BASIC_COMMAND_FORMAT =
+            Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)", Pattern.DOTALL);
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
     /**
@@ -97,6 +106,9 @@ public class AddressBookParser {
         case DeleteNextOfKinCommand.COMMAND_WORD:
             return new DeleteNextOfKinCommandParser().parse(arguments);
 
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
@@ -109,15 +121,30 @@ public class AddressBookParser {
         case FindPatientCommand.COMMAND_WORD:
             return new FindPatientCommandParser().parse(arguments);
 
+        case FilterPatientsCommand.COMMAND_WORD:
+            return new FilterPatientsCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
         case ListPatientsCommand.COMMAND_WORD:
             return new ListPatientsCommand();
 
+        case SessionsTodayCommand.COMMAND_WORD:
+            return new SessionsTodayCommand(LocalDate.now());
+
+        case SessionsWeekCommand.COMMAND_WORD:
+            return new SessionsWeekCommand(LocalDate.now());
+
         case ViewPatientCommand.COMMAND_WORD:
             return new ViewPatientCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
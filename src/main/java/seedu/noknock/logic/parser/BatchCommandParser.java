@@ -0,0 +1,90 @@
+package seedu.noknock.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.noknock.logic.commands.BatchCommand;
+import seedu.noknock.logic.commands.BatchCommand.ScriptCommand;
+import seedu.noknock.logic.commands.Command;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object.
+ * Every line of the script is parsed before the command is created, so a script with any invalid line is rejected
+ * as a whole, with the errors of all of its invalid lines.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_SCRIPT = "The script has no commands";
+    public static final String MESSAGE_NESTED_BATCH = "A script cannot run another script";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a BatchCommandParser that parses each line of a script with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * The arguments are the script itself if they span more than one line, or the path of the script file otherwise.
+     * @throws ParseException if the script cannot be read, or any of its lines does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.strip();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        // lines are numbered from the line with the command word, which is line 1 of a pasted script
+        List<String> lines = args.lines().count() > 1 ? args.lines().toList() : readScript(trimmedArgs);
+        List<ScriptCommand> scriptCommands = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith(BatchCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                if (line.split("\\s+", 2)[0].equals(BatchCommand.COMMAND_WORD)) {
+                    throw new ParseException(MESSAGE_NESTED_BATCH);
+                }
+                Command command = addressBookParser.parseCommand(line);
+                scriptCommands.add(new ScriptCommand(lineNumber, command));
+            } catch (ParseException pe) {
+                errors.add(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.join("\n", errors));
+        }
+        if (scriptCommands.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_SCRIPT);
+        }
+        return new BatchCommand(scriptCommands);
+    }
+
+    private static List<String> readScript(String filePath) throws ParseException {
+        try {
+            return Files.readAllLines(Path.of(filePath));
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, filePath, e.getMessage()), e);
+        }
+    }
+}
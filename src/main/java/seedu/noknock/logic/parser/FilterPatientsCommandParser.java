@@ -0,0 +1,49 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_IC;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_WARD;
+
+import java.util.Set;
+
+import seedu.noknock.logic.commands.FilterPatientsCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.PatientAttributesMatchPredicate;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterPatientsCommand object
+ */
+public class FilterPatientsCommandParser implements Parser<FilterPatientsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterPatientsCommand
+     * and returns a FilterPatientsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterPatientsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_IC, PREFIX_WARD, PREFIX_TAG);
+
+        boolean isAnyFilterPresent = argMultimap.getValue(PREFIX_IC).isPresent()
+                || argMultimap.getValue(PREFIX_WARD).isPresent()
+                || argMultimap.getValue(PREFIX_TAG).isPresent();
+        if (!isAnyFilterPresent || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterPatientsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_IC, PREFIX_WARD);
+        IC ic = argMultimap.getValue(PREFIX_IC).isPresent()
+                ? ParserUtil.parseIC(argMultimap.getValue(PREFIX_IC).get())
+                : null;
+        Ward ward = argMultimap.getValue(PREFIX_WARD).isPresent()
+                ? ParserUtil.parseWard(argMultimap.getValue(PREFIX_WARD).get())
+                : null;
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+
+        return new FilterPatientsCommand(new PatientAttributesMatchPredicate(ic, ward, tags));
+    }
+}
@@ -2,12 +2,18 @@ package seedu.noknock.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
-import javafx.collections.ObservableList;
+import seedu.noknock.commons.core.ListChange;
+import seedu.noknock.commons.core.PersistentList;
 import seedu.noknock.commons.util.ToStringBuilder;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientAttributeIndex;
+import seedu.noknock.model.person.PatientNameIndex;
 import seedu.noknock.model.person.UniquePatientList;
+import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +22,7 @@ import seedu.noknock.model.person.UniquePatientList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePatientList patients;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +53,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPatients(List<Patient> patients) {
         this.patients.setPatients(patients);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the patient list with {@code patients}, which {@code change} turns the current patient
+     * list into. Only the patients in {@code change} are reindexed.
+     */
+    void setPatients(PersistentList<Patient> patients, ListChange<Patient> change) {
+        this.patients.setPatients(patients, change);
+        version++;
     }
 
     /**
@@ -67,12 +84,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return patients.contains(patient);
     }
 
+    /**
+     * Returns the position in the patient list of the patient with the same identity as {@code patient}, or -1 if
+     * there is no such patient.
+     */
+    public int positionOf(Patient patient) {
+        requireNonNull(patient);
+        return patients.positionOf(patient);
+    }
+
     /**
      * Adds a patient to the address book.
      * The patient must not already exist in the address book.
      */
     public void addPatient(Patient p) {
         patients.add(p);
+        version++;
     }
 
     /**
@@ -84,6 +111,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPatient);
 
         patients.setPatient(target, editedPatient);
+        version++;
     }
 
     /**
@@ -92,6 +120,42 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePatient(Patient key) {
         patients.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the index of the words in the names of the patients and of their next-of-kin.
+     */
+    public PatientNameIndex getPatientNameIndex() {
+        return patients.getNameIndex();
+    }
+
+    /**
+     * Returns the index of the ICs, wards and tags of the patients.
+     */
+    public PatientAttributeIndex getPatientAttributeIndex() {
+        return patients.getAttributeIndex();
+    }
+
+    /**
+     * Returns the caring sessions from {@code startDate} to {@code endDate}, both inclusive, ordered by date and time.
+     */
+    public List<PatientCaringSession> getSessionsBetween(LocalDate startDate, LocalDate endDate) {
+        return patients.getSessionsBetween(startDate, endDate);
+    }
+
+    /**
+     * Returns the caring sessions before {@code dateTime} that are not complete, ordered by date and time.
+     */
+    public List<PatientCaringSession> getIncompleteSessionsBefore(LocalDateTime dateTime) {
+        return patients.getIncompleteSessionsBefore(dateTime);
+    }
+
+    /**
+     * Returns a counter that changes every time the patients in this {@code AddressBook} are modified.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -103,9 +167,13 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    /**
+     * Returns the patients as they are now, in a list that does not change when this address book is changed later.
+     * Takes O(1) time, so a snapshot of this address book is free.
+     */
     @Override
-    public ObservableList<Patient> getPatientList() {
-        return patients.asUnmodifiableObservableList();
+    public List<Patient> getPatientList() {
+        return patients.asUnmodifiableList();
     }
 
     @Override
@@ -1,11 +1,19 @@
 package seedu.noknock.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.commons.core.ListChange;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientAttributeIndex;
+import seedu.noknock.model.person.PatientNameIndex;
+import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * The API of the Model component.
@@ -52,6 +60,40 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that changes whenever the address book is modified.
+     * Two equal values mean the address book was not modified in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Saves the current address book as a state that can be returned to with {@link #undoAddressBook()}.
+     * Does nothing if the address book has not been changed since it was last committed, undone or redone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an earlier committed address book to return to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone address book to return to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book committed before the current one.
+     * @throws IllegalStateException if {@link #canUndoAddressBook()} is false.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book that was last undone.
+     * @throws IllegalStateException if {@link #canRedoAddressBook()} is false.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a patient with the same identity as {@code patient} exists in the address book.
      */
@@ -77,12 +119,54 @@ public interface Model {
      */
     void setPatient(Patient target, Patient editedPerson);
 
+    /**
+     * Returns the index of the words in the names of the patients and of their next-of-kin.
+     * The index always reflects the current patients, so predicates may consult it when they are evaluated.
+     */
+    PatientNameIndex getPatientNameIndex();
+
+    /**
+     * Returns the index of the ICs, wards and tags of the patients.
+     * Like the name index, it always reflects the current patients.
+     */
+    PatientAttributeIndex getPatientAttributeIndex();
+
+    /**
+     * Returns the caring sessions of all patients, not only the filtered ones, from {@code startDate} to
+     * {@code endDate}, both inclusive, ordered by date and time.
+     * @throws NullPointerException if {@code startDate} or {@code endDate} is null.
+     */
+    List<PatientCaringSession> getSessionsBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the caring sessions of all patients that are before {@code now} and are not complete, ordered by
+     * date and time.
+     * @throws NullPointerException if {@code now} is null.
+     */
+    List<PatientCaringSession> getOverdueSessions(LocalDateTime now);
+
     /** Returns an unmodifiable view of the filtered patient list */
-    ObservableList<Patient> getFilteredPatientList();
+    List<Patient> getFilteredPatientList();
+
+    /**
+     * Adds a listener that is given the current filtered patient list as a change from an empty list, and then each
+     * change to the filtered patient list, after the change is made. The model is changed on a single thread, which
+     * must also be the thread that adds listeners, and listeners are called on that thread.
+     * @throws NullPointerException if {@code listener} is null.
+     */
+    void addFilteredPatientListListener(Consumer<ListChange<Patient>> listener);
 
     /**
      * Updates the filter of the filtered patient list to filter by the given {@code predicate}.
+     * The patients are shown in the order they are in the address book.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
+
+    /**
+     * Updates the filter of the filtered patient list to filter by the given {@code predicate}, and shows the
+     * patients in the order given by {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator);
 }
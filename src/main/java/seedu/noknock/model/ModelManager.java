@@ -4,24 +4,46 @@ import static java.util.Objects.requireNonNull;
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.commons.core.ListChange;
 import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.model.person.IndexLookupPredicate;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientAttributeIndex;
+import seedu.noknock.model.person.PatientNameIndex;
+import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The model is not thread-safe: it must only be changed, and have listeners added to it, on a single thread.
+ * Listeners of the filtered patient list are called on that thread, and are responsible for passing the changes on
+ * to any other thread, such as the JavaFX application thread.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private static final long BYTES_PER_KB = 1024;
+
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Patient> filteredPatients;
+    private final List<Patient> filteredPatients = new ArrayList<>();
+    private final List<Patient> unmodifiableFilteredPatients = Collections.unmodifiableList(filteredPatients);
+    private final List<Consumer<ListChange<Patient>>> filteredPatientListeners = new CopyOnWriteArrayList<>();
+    private Predicate<Patient> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    /** The order of the filtered patients, or null if they are in the order of the address book. */
+    private Comparator<Patient> filterComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -31,9 +53,9 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryBudgetKb() * BYTES_PER_KB);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
+        filteredPatients.addAll(this.addressBook.getPatientList());
     }
 
     public ModelManager() {
@@ -80,6 +102,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        refreshFilteredPatients();
     }
 
     @Override
@@ -87,6 +110,36 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo().ifPresent(this::applyToFilteredPatients);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo().ifPresent(this::applyToFilteredPatients);
+    }
+
     @Override
     public boolean hasPatient(Patient patient) {
         requireNonNull(patient);
@@ -95,20 +148,52 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePatient(Patient target) {
+        int position = addressBook.positionOf(target);
+        Patient removedPatient = position == -1 ? target : addressBook.getPatientList().get(position);
         addressBook.removePatient(target);
+        applyToFilteredPatients(new ListChange<>(position, List.of(removedPatient), List.of()));
     }
 
     @Override
     public void addPatient(Patient patient) {
         addressBook.addPatient(patient);
-        updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        if (filterPredicate != PREDICATE_SHOW_ALL_PERSONS || filterComparator != null) {
+            updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+            return;
+        }
+        applyToFilteredPatients(new ListChange<>(addressBook.positionOf(patient), List.of(), List.of(patient)));
     }
 
     @Override
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
+        int position = addressBook.positionOf(target);
+        Patient replacedPatient = position == -1 ? target : addressBook.getPatientList().get(position);
         addressBook.setPatient(target, editedPatient);
+        applyToFilteredPatients(new ListChange<>(position, List.of(replacedPatient), List.of(editedPatient)));
+    }
+
+    @Override
+    public PatientNameIndex getPatientNameIndex() {
+        return addressBook.getPatientNameIndex();
+    }
+
+    @Override
+    public PatientAttributeIndex getPatientAttributeIndex() {
+        return addressBook.getPatientAttributeIndex();
+    }
+
+    @Override
+    public List<PatientCaringSession> getSessionsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return addressBook.getSessionsBetween(startDate, endDate);
+    }
+
+    @Override
+    public List<PatientCaringSession> getOverdueSessions(LocalDateTime now) {
+        requireNonNull(now);
+        return addressBook.getIncompleteSessionsBefore(now);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -118,14 +203,169 @@ public class ModelManager implements Model {
      * {@code versionedAddressBook}
      */
     @Override
-    public ObservableList<Patient> getFilteredPatientList() {
-        return filteredPatients;
+    public List<Patient> getFilteredPatientList() {
+        return unmodifiableFilteredPatients;
+    }
+
+    @Override
+    public void addFilteredPatientListListener(Consumer<ListChange<Patient>> listener) {
+        requireNonNull(listener);
+        filteredPatientListeners.add(listener);
+        if (!filteredPatients.isEmpty()) {
+            listener.accept(new ListChange<>(0, List.of(), filteredPatients));
+        }
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
-        filteredPatients.setPredicate(predicate);
+        filterPredicate = predicate;
+        filterComparator = null;
+        refreshFilteredPatients();
+    }
+
+    @Override
+    public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filterPredicate = predicate;
+        filterComparator = comparator;
+        refreshFilteredPatients();
+    }
+
+    /**
+     * Filters and sorts the patients in the address book again, and passes the change to the filtered patient list,
+     * if there is any, to its listeners.
+     */
+    private void refreshFilteredPatients() {
+        List<Patient> refreshedPatients = new ArrayList<>();
+        if (filterPredicate instanceof IndexLookupPredicate indexLookupPredicate) {
+            // only the looked up patients are placed in the order of the address book
+            refreshedPatients.addAll(indexLookupPredicate.getMatches());
+            refreshedPatients.sort(Comparator.comparingInt(addressBook::positionOf));
+        } else {
+            for (Patient patient : addressBook.getPatientList()) {
+                if (filterPredicate.test(patient)) {
+                    refreshedPatients.add(patient);
+                }
+            }
+        }
+        if (filterComparator != null) {
+            refreshedPatients.sort(filterComparator);
+        }
+
+        Optional<ListChange<Patient>> change = ListChange.between(filteredPatients, refreshedPatients);
+        if (change.isEmpty()) {
+            return;
+        }
+        publishFilteredPatientsChange(change.get());
+    }
+
+    /**
+     * Updates the filtered patients after {@code bookChange} was made to the address book, by filtering and placing
+     * only the patients it removed and added, and passes the changes to the filtered patient list to its listeners.
+     */
+    private void applyToFilteredPatients(ListChange<Patient> bookChange) {
+        if (filterComparator == null) {
+            applyInBookOrder(bookChange);
+        } else {
+            applyInSortedOrder(bookChange);
+        }
+    }
+
+    /**
+     * Applies {@code bookChange} to the filtered patients while they are in the order of the address book, where
+     * the patients it removed are all found together, between the unchanged patients before and after it.
+     */
+    private void applyInBookOrder(ListChange<Patient> bookChange) {
+        int changeEnd = bookChange.from() + bookChange.added().size();
+        // unchanged patients keep their identity, so their position in the changed book tells which side they are on
+        int start = 0;
+        int end = filteredPatients.size();
+        while (start < end) {
+            int middle = (start + end) >>> 1;
+            int position = addressBook.positionOf(filteredPatients.get(middle));
+            if (position != -1 && position < bookChange.from()) {
+                start = middle + 1;
+            } else {
+                end = middle;
+            }
+        }
+        end = start;
+        while (end < filteredPatients.size()) {
+            int position = addressBook.positionOf(filteredPatients.get(end));
+            if (position != -1 && position >= changeEnd) {
+                break;
+            }
+            end++;
+        }
+
+        List<Patient> addedPatients = new ArrayList<>();
+        for (Patient patient : bookChange.added()) {
+            if (filterPredicate.test(patient)) {
+                addedPatients.add(patient);
+            }
+        }
+        if (start == end && addedPatients.isEmpty()) {
+            return;
+        }
+        publishFilteredPatientsChange(new ListChange<>(start, filteredPatients.subList(start, end), addedPatients));
+    }
+
+    /**
+     * Applies {@code bookChange} to the filtered patients while they are sorted by {@code filterComparator}, by
+     * removing and inserting the changed patients one at a time. Patients that the comparator ranks the same are
+     * kept in the order of the address book, as a stable sort would leave them.
+     */
+    private void applyInSortedOrder(ListChange<Patient> bookChange) {
+        for (Patient patient : bookChange.removed()) {
+            if (!filterPredicate.test(patient)) {
+                continue;
+            }
+            int index = indexOfFilteredPatient(patient);
+            if (index == -1) {
+                // the predicate no longer agrees with the filtered patients, so filter the whole book again
+                refreshFilteredPatients();
+                return;
+            }
+            publishFilteredPatientsChange(new ListChange<>(index, List.of(patient), List.of()));
+        }
+
+        Comparator<Patient> order = filterComparator.thenComparingInt(addressBook::positionOf);
+        for (Patient patient : bookChange.added()) {
+            if (!filterPredicate.test(patient)) {
+                continue;
+            }
+            int index = Collections.binarySearch(filteredPatients, patient, order);
+            int insertionPoint = index < 0 ? -index - 1 : index;
+            publishFilteredPatientsChange(new ListChange<>(insertionPoint, List.of(), List.of(patient)));
+        }
+    }
+
+    /**
+     * Returns the index of {@code patient} itself in the sorted filtered patients, or -1 if it is not there.
+     */
+    private int indexOfFilteredPatient(Patient patient) {
+        int index = Collections.binarySearch(filteredPatients, patient, filterComparator);
+        if (index < 0) {
+            return -1;
+        }
+        for (int i = index; i >= 0 && filterComparator.compare(filteredPatients.get(i), patient) == 0; i--) {
+            if (filteredPatients.get(i) == patient) {
+                return i;
+            }
+        }
+        for (int i = index + 1; i < filteredPatients.size()
+                && filterComparator.compare(filteredPatients.get(i), patient) == 0; i++) {
+            if (filteredPatients.get(i) == patient) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void publishFilteredPatientsChange(ListChange<Patient> change) {
+        change.applyTo(filteredPatients);
+        filteredPatientListeners.forEach(listener -> listener.accept(change));
     }
 
     @Override
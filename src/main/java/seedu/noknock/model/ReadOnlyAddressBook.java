@@ -1,6 +1,8 @@
 package seedu.noknock.model;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
+import seedu.noknock.commons.core.PersistentList;
 import seedu.noknock.model.person.Patient;
 
 /**
@@ -12,6 +14,16 @@ public interface ReadOnlyAddressBook {
      * Returns an unmodifiable view of the patients list.
      * This list will not contain any duplicate patients.
      */
-    ObservableList<Patient> getPatientList();
+    List<Patient> getPatientList();
+
+    /**
+     * Returns a copy of this address book that never changes, such as for saving it in the background.
+     * Takes O(1) time if the patients list is a {@code PersistentList}, as it is for an {@code AddressBook}, as the
+     * copy then shares the list instead of copying it.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        PersistentList<Patient> patients = PersistentList.copyOf(getPatientList());
+        return () -> patients;
+    }
 
 }
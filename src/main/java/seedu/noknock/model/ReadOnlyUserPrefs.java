@@ -2,6 +2,7 @@ package seedu.noknock.model;
 
 import java.nio.file.Path;
 
+import seedu.noknock.commons.core.DataFileFormat;
 import seedu.noknock.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFileFormat getAddressBookFileFormat();
+
+    /**
+     * Returns the number of kilobytes of memory the undo history may hold, beyond the address book itself.
+     */
+    long getUndoHistoryBudgetKb();
+
 }
@@ -1,11 +1,13 @@
 package seedu.noknock.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.noknock.commons.core.DataFileFormat;
 import seedu.noknock.commons.core.GuiSettings;
 
 /**
@@ -13,8 +15,12 @@ import seedu.noknock.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_UNDO_HISTORY_BUDGET_KB = 4096;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private long undoHistoryBudgetKb = DEFAULT_UNDO_HISTORY_BUDGET_KB;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setUndoHistoryBudgetKb(newUserPrefs.getUndoHistoryBudgetKb());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public long getUndoHistoryBudgetKb() {
+        return undoHistoryBudgetKb;
+    }
+
+    public void setUndoHistoryBudgetKb(long undoHistoryBudgetKb) {
+        checkArgument(undoHistoryBudgetKb >= 0, VersionedAddressBook.MESSAGE_NEGATIVE_BUDGET);
+        this.undoHistoryBudgetKb = undoHistoryBudgetKb;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +95,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && undoHistoryBudgetKb == otherUserPrefs.undoHistoryBudgetKb;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, undoHistoryBudgetKb);
     }
 
     @Override
@@ -82,6 +110,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nUndo history budget (KB) : " + undoHistoryBudgetKb);
         return sb.toString();
     }
 
@@ -0,0 +1,285 @@
+package seedu.noknock.model;
+
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.noknock.commons.core.ListChange;
+import seedu.noknock.commons.core.PersistentList;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * An {@code AddressBook} that keeps a history of its states, so that changes to it can be undone and redone.
+ * Each state is a snapshot of the patient list, which shares the patients and most of its structure with the states
+ * around it, so keeping a state costs about as much memory as the patients changed after it. The oldest states are
+ * dropped once the estimated memory held only by the history is over the budget.
+ *
+ * Every change to the patients is recorded as it is made, so committing a state and restoring one only touch the
+ * patients that changed, rather than comparing or reindexing whole lists.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final String MESSAGE_NEGATIVE_BUDGET = "The memory budget of the history cannot be negative";
+
+    /** Rough number of bytes taken by a patient, without its next-of-kin and caring sessions. */
+    static final long ESTIMATED_PATIENT_BYTES = 512;
+    /** Rough number of bytes taken by a next-of-kin or a caring session. */
+    static final long ESTIMATED_ENTRY_BYTES = 256;
+    /** Rough number of bytes taken by a node of the patient list that is not shared between two states. */
+    static final long ESTIMATED_NODE_BYTES = 48;
+
+    private final long memoryBudget;
+    private final List<State> states = new ArrayList<>();
+    private int currentStatePointer;
+    /** Version of this address book when it was last committed, undone or redone. */
+    private long currentStateVersion;
+    private long historyBytes;
+    /** Range of the patient list changed since the last commit, undo or redo, or null if it is unchanged. */
+    private PendingChange pendingChange;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the patients in {@code initialState} as its only state, that
+     * keeps about {@code memoryBudget} bytes of history.
+     * @throws IllegalArgumentException if {@code memoryBudget} is negative.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long memoryBudget) {
+        super(initialState);
+        checkArgument(memoryBudget >= 0, MESSAGE_NEGATIVE_BUDGET);
+        this.memoryBudget = memoryBudget;
+        states.add(new State(PersistentList.copyOf(getPatientList())));
+        currentStateVersion = getVersion();
+        pendingChange = null;
+    }
+
+    @Override
+    public void setPatients(List<Patient> patients) {
+        int oldSize = getPatientList().size();
+        super.setPatients(patients);
+        recordChange(0, oldSize, patients.size());
+    }
+
+    @Override
+    public void addPatient(Patient p) {
+        int position = getPatientList().size();
+        super.addPatient(p);
+        recordChange(position, 0, 1);
+    }
+
+    @Override
+    public void setPatient(Patient target, Patient editedPatient) {
+        int position = positionOf(target);
+        super.setPatient(target, editedPatient);
+        recordChange(position, 1, 1);
+    }
+
+    @Override
+    public void removePatient(Patient key) {
+        int position = positionOf(key);
+        super.removePatient(key);
+        recordChange(position, 1, 0);
+    }
+
+    /**
+     * Saves the current patients as a new state in the history, and drops the states that were undone.
+     * Does nothing if the address book has not been changed since it was last committed, undone or redone.
+     */
+    public void commit() {
+        if (getVersion() == currentStateVersion) {
+            return;
+        }
+        currentStateVersion = getVersion();
+
+        State currentState = states.get(currentStatePointer);
+        PersistentList<Patient> patients = PersistentList.copyOf(getPatientList());
+        Optional<ListChange<Patient>> change = pendingChange.between(currentState.patients, patients);
+        pendingChange = null;
+        if (change.isEmpty()) {
+            return;
+        }
+
+        while (states.size() > currentStatePointer + 1) {
+            historyBytes -= states.remove(states.size() - 1).heldBytes;
+        }
+        // the patients replaced by this change are now only held by the current state
+        long heldBytes = estimateHeldBytes(change.get(), currentState.patients.size());
+        historyBytes += heldBytes - currentState.heldBytes;
+        currentState.heldBytes = heldBytes;
+        currentState.changeToNext = change.get();
+        states.add(new State(patients));
+        currentStatePointer++;
+
+        while (historyBytes > memoryBudget && currentStatePointer > 0) {
+            historyBytes -= states.remove(0).heldBytes;
+            currentStatePointer--;
+        }
+    }
+
+    /**
+     * Returns true if there is an earlier state to go back to.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if there is an undone state to go forward to.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < states.size() - 1;
+    }
+
+    /**
+     * Restores the state before the current one, and returns the change this made to the patient list.
+     * Changes made since the last commit are discarded.
+     * @throws IllegalStateException if there is no earlier state.
+     */
+    public Optional<ListChange<Patient>> undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No state to undo");
+        }
+        ListChange<Patient> change = states.get(currentStatePointer - 1).changeToNext;
+        return restoreState(currentStatePointer - 1,
+                new ListChange<>(change.from(), change.added(), change.removed()));
+    }
+
+    /**
+     * Restores the state that was last undone, and returns the change this made to the patient list.
+     * Changes made since the last commit are discarded.
+     * @throws IllegalStateException if there is no undone state.
+     */
+    public Optional<ListChange<Patient>> redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No state to redo");
+        }
+        return restoreState(currentStatePointer + 1, states.get(currentStatePointer).changeToNext);
+    }
+
+    /**
+     * Returns the estimated number of bytes held only by the history, which the budget is compared against.
+     */
+    long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    /**
+     * Records that the patients from {@code from} were changed, with {@code removedCount} of them replaced by
+     * {@code addedCount} patients.
+     * Called during construction too, before the fields of this class are initialised.
+     */
+    private void recordChange(int from, int removedCount, int addedCount) {
+        PendingChange change = new PendingChange(from, from + removedCount, from + addedCount);
+        pendingChange = pendingChange == null ? change : pendingChange.then(change);
+    }
+
+    /**
+     * Restores the state at {@code statePointer}, which {@code change} turns the last committed, undone or redone
+     * state into. Any uncommitted changes are reverted along with it.
+     * Only the patients in the change are reindexed, as the patient list is swapped for that of the state.
+     */
+    private Optional<ListChange<Patient>> restoreState(int statePointer, ListChange<Patient> change) {
+        PersistentList<Patient> patientsBefore = PersistentList.copyOf(getPatientList());
+        PersistentList<Patient> patientsAfter = states.get(statePointer).patients;
+        Optional<ListChange<Patient>> appliedChange = Optional.of(change);
+        if (pendingChange != null) {
+            PendingChange revertedChange = new PendingChange(pendingChange.from, pendingChange.currentEnd,
+                    pendingChange.baseEnd);
+            PendingChange fromPatientsBefore = revertedChange.then(new PendingChange(change.from(),
+                    change.from() + change.removed().size(), change.from() + change.added().size()));
+            appliedChange = fromPatientsBefore.between(patientsBefore, patientsAfter);
+            pendingChange = null;
+        }
+
+        currentStatePointer = statePointer;
+        setPatients(patientsAfter, appliedChange.orElse(new ListChange<>(0, List.of(), List.of())));
+        currentStateVersion = getVersion();
+        return appliedChange;
+    }
+
+    /**
+     * Estimates the memory held by a state of {@code size} patients that the state after it, which differs from it
+     * by {@code change}, does not share: the patients it removed, the nodes on the paths to the changed ones, and
+     * the state itself. A removed patient is paired with the patient added in its place, if any, with which it
+     * shares its unchanged next-of-kin and caring sessions.
+     */
+    private static long estimateHeldBytes(ListChange<Patient> change, int size) {
+        long bytes = ESTIMATED_NODE_BYTES;
+        List<Patient> removed = change.removed();
+        List<Patient> added = change.added();
+        for (int i = 0; i < removed.size(); i++) {
+            Patient patient = removed.get(i);
+            Optional<Patient> replacement = i < added.size() ? Optional.of(added.get(i)) : Optional.empty();
+            bytes += ESTIMATED_PATIENT_BYTES
+                    + estimateUnsharedBytes(patient.getNextOfKinList(),
+                            replacement.map(Patient::getNextOfKinList).orElse(List.of()))
+                    + estimateUnsharedBytes(patient.getCaringSessionList(),
+                            replacement.map(Patient::getCaringSessionList).orElse(List.of()));
+        }
+        return bytes + estimatePathBytes(Math.max(removed.size(), added.size()), size);
+    }
+
+    /**
+     * Estimates the memory held by {@code entries} that {@code replacementEntries} does not share: the entries that
+     * were removed or replaced, and the nodes on the paths to them.
+     */
+    private static <T> long estimateUnsharedBytes(List<T> entries, List<T> replacementEntries) {
+        if (entries == replacementEntries) {
+            return 0;
+        }
+        return ListChange.between(entries, replacementEntries)
+                .map(change -> ESTIMATED_ENTRY_BYTES * change.removed().size()
+                        + estimatePathBytes(Math.max(change.removed().size(), change.added().size()), entries.size()))
+                .orElse(0L);
+    }
+
+    /**
+     * Estimates the memory taken by the nodes on the paths to {@code changedPositions} positions of a persistent list
+     * of {@code size} elements, which are copied when the elements at those positions are changed.
+     */
+    private static long estimatePathBytes(int changedPositions, int size) {
+        int treeHeight = 64 - Long.numberOfLeadingZeros(size);
+        return ESTIMATED_NODE_BYTES * Math.min(size, (long) (changedPositions + 1) * (treeHeight + 1));
+    }
+
+    /**
+     * The range of a list that was changed, as the positions {@code from} to {@code baseEnd} of the list before the
+     * change, which were replaced by the positions {@code from} to {@code currentEnd} of the list after it.
+     * The elements outside the range are the same in both lists.
+     */
+    private record PendingChange(int from, int baseEnd, int currentEnd) {
+
+        /**
+         * Returns the range changed by this change followed by {@code next}, which is a change to the list after
+         * this change.
+         */
+        PendingChange then(PendingChange next) {
+            int end = Math.max(currentEnd, next.baseEnd);
+            return new PendingChange(Math.min(from, next.from), baseEnd + end - currentEnd,
+                    end + next.currentEnd - next.baseEnd);
+        }
+
+        /**
+         * Returns the change that turns {@code base} into {@code current}, which differ only in this range, or an
+         * empty {@code Optional} if they have the same elements.
+         */
+        Optional<ListChange<Patient>> between(List<Patient> base, List<Patient> current) {
+            return ListChange.between(base.subList(from, baseEnd), current.subList(from, currentEnd))
+                    .map(change -> new ListChange<>(from + change.from(), change.removed(), change.added()));
+        }
+    }
+
+    /**
+     * A state in the history, with the change that turns it into the state after it, and the estimated memory it
+     * holds that the state after it does not share.
+     */
+    private static class State {
+        private final PersistentList<Patient> patients;
+        private ListChange<Patient> changeToNext;
+        private long heldBytes;
+
+        State(PersistentList<Patient> patients) {
+            this.patients = patients;
+        }
+    }
+}
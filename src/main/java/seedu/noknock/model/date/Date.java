@@ -30,6 +30,16 @@ public class Date {
         value = parsed;
     }
 
+    /**
+     * Constructs a {@code Date} from an already parsed date.
+     *
+     * @param date A valid local date.
+     */
+    public Date(LocalDate date) {
+        requireNonNull(date);
+        value = date;
+    }
+
     /**
      * Returns true if a given local date is a valid date.
      */
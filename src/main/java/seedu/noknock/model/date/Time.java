@@ -31,6 +31,16 @@ public class Time {
         value = parsed;
     }
 
+    /**
+     * Constructs a {@code Time} from an already parsed time.
+     *
+     * @param time A valid local time.
+     */
+    public Time(LocalTime time) {
+        requireNonNull(time);
+        value = time;
+    }
+
     /**
      * Returns true if a given local time is valid (not null).
      */
@@ -36,4 +36,9 @@ public class IC {
         IC otherIc = (IC) other;
         return ic.equals(otherIc.ic);
     }
+
+    @Override
+    public int hashCode() {
+        return ic.hashCode();
+    }
 }
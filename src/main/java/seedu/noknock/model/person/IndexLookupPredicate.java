@@ -0,0 +1,45 @@
+package seedu.noknock.model.person;
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Tests that a {@code Patient} is in the set of patients looked up from an index.
+ * The set is looked up once, and again only after the index has changed, so that testing every patient in the list is
+ * a set membership check each.
+ * The matching patients can also be taken from {@link #getMatches()} directly, without testing every patient.
+ */
+public class IndexLookupPredicate implements Predicate<Patient> {
+    private final LongSupplier indexVersion;
+    private final Supplier<Set<Patient>> lookup;
+    private long lookedUpVersion;
+    private Set<Patient> matches;
+
+    /**
+     * Creates a predicate for the patients given by {@code lookup}, which is called again whenever
+     * {@code indexVersion} gives a different version of the index it looks the patients up in.
+     */
+    IndexLookupPredicate(LongSupplier indexVersion, Supplier<Set<Patient>> lookup) {
+        this.indexVersion = indexVersion;
+        this.lookup = lookup;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return getMatches().contains(patient);
+    }
+
+    /**
+     * Returns the patients in the index that this predicate matches, in no particular order.
+     */
+    public Set<Patient> getMatches() {
+        long version = indexVersion.getAsLong();
+        if (matches == null || version != lookedUpVersion) {
+            matches = lookup.get();
+            lookedUpVersion = version;
+        }
+        return matches;
+    }
+}
@@ -1,15 +1,19 @@
 package seedu.noknock.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.noknock.commons.core.PersistentList;
 import seedu.noknock.commons.util.ToStringBuilder;
 import seedu.noknock.model.session.CaringSession;
 import seedu.noknock.model.tag.Tag;
@@ -17,14 +21,15 @@ import seedu.noknock.model.tag.Tag;
 /**
  * Represents a patient in the system with personal details, ward assignment,
  * IC number, next-of-kin list, caring sessions, and associated tags.
- * This class is immutable except for the modifiable lists.
+ * This class is immutable. Its next-of-kin and caring session lists are {@code PersistentList}s, so a copy of a
+ * patient with one next-of-kin or session added, edited or removed shares the rest of the list with the original.
  */
 public final class Patient extends Person {
     private final IC ic;
     private final Ward ward;
-    private final List<NextOfKin> nextOfKinList = new ArrayList<>();
-    private final List<CaringSession> caringSessionList = new ArrayList<>();
-    private final Set<Tag> tags = new HashSet<>();
+    private final PersistentList<NextOfKin> nextOfKinList;
+    private final PersistentList<CaringSession> caringSessionList;
+    private final Set<Tag> tags;
 
     /**
      * Constructs a {@code Patient} with the given details.
@@ -35,11 +40,22 @@ public final class Patient extends Person {
      * @param tags Tags associated with the patient.
      */
     public Patient(Name name, Ward ward, IC ic, Set<Tag> tags) {
+        this(name, ward, ic, Collections.unmodifiableSet(new HashSet<>(requireNonNull(tags))), PersistentList.of(),
+                PersistentList.of());
+    }
+
+    /**
+     * Constructs a {@code Patient} that shares {@code tags}, which must not be modifiable, and both lists.
+     */
+    private Patient(Name name, Ward ward, IC ic, Set<Tag> tags, PersistentList<NextOfKin> nextOfKinList,
+            PersistentList<CaringSession> caringSessionList) {
         super(name);
         requireAllNonNull(ward, ic, tags);
         this.ic = ic;
         this.ward = ward;
-        this.tags.addAll(tags);
+        this.tags = tags;
+        this.nextOfKinList = nextOfKinList;
+        this.caringSessionList = caringSessionList;
     }
 
     public IC getIC() {
@@ -55,30 +71,45 @@ public final class Patient extends Person {
     }
 
     /**
-     * Returns a sorted list of caring sessions by date and time.
+     * Returns an unmodifiable list of caring sessions sorted by date and time.
+     * The list is sorted once when the patient is created, so this is cheap to call repeatedly.
      *
      * @return Sorted list of caring sessions.
      */
     public List<CaringSession> getCaringSessionList() {
-        return caringSessionList.stream()
-            .sorted(
-                Comparator.comparing((CaringSession a) -> a.getDate().value)
-                    .thenComparing(a -> a.getTime().value)
-            )
-            .toList();
+        return caringSessionList;
     }
 
     /**
      * Creates a copy of the current patient with an updated next-of-kin list.
+     * Takes O(1) time if {@code newNextOfKinList} is a {@code PersistentList}, such as that of another patient.
      *
      * @param newNextOfKinList The new list of next-of-kin.
      * @return A new Patient instance with the updated next-of-kin list.
      */
     public Patient withNextOfKinList(List<NextOfKin> newNextOfKinList) {
-        Patient copy = new Patient(getName(), getWard(), getIC(), getTags());
-        copy.nextOfKinList.addAll(newNextOfKinList);
-        copy.caringSessionList.addAll(this.caringSessionList);
-        return copy;
+        return withLists(PersistentList.copyOf(newNextOfKinList), caringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient with {@code nextOfKin} added to the end of its next-of-kin list.
+     */
+    public Patient withNextOfKinAdded(NextOfKin nextOfKin) {
+        return withLists(nextOfKinList.withAdded(nextOfKin), caringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient with the next-of-kin at {@code index} replaced by {@code nextOfKin}.
+     */
+    public Patient withNextOfKinReplaced(int index, NextOfKin nextOfKin) {
+        return withLists(nextOfKinList.withReplaced(index, nextOfKin), caringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient without the next-of-kin at {@code index}.
+     */
+    public Patient withNextOfKinRemoved(int index) {
+        return withLists(nextOfKinList.withRemoved(index), caringSessionList);
     }
 
     /**
@@ -88,10 +119,42 @@ public final class Patient extends Person {
      * @return A new Patient instance with the updated caring session list.
      */
     public Patient withCaringSessionList(List<CaringSession> newCaringSessionList) {
-        Patient copy = new Patient(getName(), getWard(), getIC(), getTags());
-        copy.nextOfKinList.addAll(this.nextOfKinList);
-        copy.caringSessionList.addAll(newCaringSessionList);
-        return copy;
+        return withLists(nextOfKinList, PersistentList.copyOf(sortChronologically(newCaringSessionList)));
+    }
+
+    /**
+     * Creates a copy of the current patient with the session at {@code index} replaced by {@code session}, which is
+     * moved to keep the sessions sorted by date and time. Among sessions at the same date and time, it keeps its
+     * position relative to the others. Takes O(log^2 n) time.
+     */
+    public Patient withCaringSessionReplaced(int index, CaringSession session) {
+        requireNonNull(session);
+        PersistentList<CaringSession> remaining = caringSessionList.withRemoved(index);
+        int position = Math.max(indexOfFirstSessionFrom(remaining, session.getDateTime()),
+                Math.min(index, indexOfFirstSessionAfter(remaining, session)));
+        return withLists(nextOfKinList, remaining.withAdded(position, session));
+    }
+
+    /**
+     * Creates a copy of the current patient without the session at {@code index}.
+     */
+    public Patient withCaringSessionRemoved(int index) {
+        return withLists(nextOfKinList, caringSessionList.withRemoved(index));
+    }
+
+    private Patient withLists(PersistentList<NextOfKin> newNextOfKinList,
+            PersistentList<CaringSession> newCaringSessionList) {
+        return new Patient(getName(), ward, ic, tags, newNextOfKinList, newCaringSessionList);
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code caringSessions} sorted by date and time.
+     * Sessions at the same date and time keep their relative order.
+     */
+    private static List<CaringSession> sortChronologically(List<CaringSession> caringSessions) {
+        CaringSession[] sorted = caringSessions.toArray(new CaringSession[0]);
+        Arrays.sort(sorted, CaringSession.CHRONOLOGICAL_ORDER);
+        return List.of(sorted);
     }
 
     /**
@@ -100,7 +163,7 @@ public final class Patient extends Person {
      * @return Immutable set of tags.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -122,12 +185,106 @@ public final class Patient extends Person {
 
     /**
      * Checks if the new caring session overlaps with any existing sessions.
+     * Takes O(log n) time, as the sessions are kept sorted by date and time.
      *
      * @param newSession The new caring session to check.
      * @return True if there is an overlap with existing sessions.
      */
     public boolean hasOverlappingSession(CaringSession newSession) {
-        return caringSessionList.stream().anyMatch(existing -> existing.overlaps(newSession));
+        requireNonNull(newSession);
+        int position = indexOfFirstSessionFrom(newSession.getDateTime());
+        return position < caringSessionList.size() && caringSessionList.get(position).overlaps(newSession);
+    }
+
+    /**
+     * Checks if any of {@code newSessions} overlaps with an existing session or with another of {@code newSessions}.
+     * Takes O(m log m + m log n) time for m new sessions, so scheduling many sessions at once is not quadratic.
+     */
+    public boolean hasOverlappingSession(List<CaringSession> newSessions) {
+        requireNonNull(newSessions);
+        List<CaringSession> sortedNewSessions = sortChronologically(newSessions);
+        for (int i = 0; i < sortedNewSessions.size(); i++) {
+            CaringSession newSession = sortedNewSessions.get(i);
+            if (hasOverlappingSession(newSession)
+                    || (i > 0 && sortedNewSessions.get(i - 1).overlaps(newSession))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if any existing session starts within the interval that begins at {@code start} and lasts for
+     * {@code duration}, including its start but not its end.
+     * A zero {@code duration} checks for a session starting exactly at {@code start}.
+     * Takes O(log n) time, as the sessions are kept sorted by date and time.
+     */
+    public boolean hasSessionDuring(LocalDateTime start, Duration duration) {
+        requireAllNonNull(start, duration);
+        checkArgument(!duration.isNegative(), "Duration must not be negative");
+        int position = indexOfFirstSessionFrom(start);
+        if (position == caringSessionList.size()) {
+            return false;
+        }
+
+        LocalDateTime firstStart = caringSessionList.get(position).getDateTime();
+        return duration.isZero() ? firstStart.equals(start) : firstStart.isBefore(start.plus(duration));
+    }
+
+    /**
+     * Creates a copy of the current patient with {@code newSessions} added to its caring sessions.
+     * Each new session is inserted after the sessions that do not start after it, which takes O(m log^2 n) time.
+     */
+    public Patient withCaringSessionsAdded(List<CaringSession> newSessions) {
+        PersistentList<CaringSession> sessions = caringSessionList;
+        for (CaringSession newSession : sortChronologically(newSessions)) {
+            sessions = sessions.withAdded(indexOfFirstSessionAfter(sessions, newSession), newSession);
+        }
+        return withLists(nextOfKinList, sessions);
+    }
+
+    /**
+     * Returns the position of the first session that starts at or after {@code dateTime}, or the number of
+     * sessions if there is none.
+     */
+    private int indexOfFirstSessionFrom(LocalDateTime dateTime) {
+        return indexOfFirstSessionFrom(caringSessionList, dateTime);
+    }
+
+    /**
+     * Returns the position of the first of {@code sessions}, which are sorted by date and time, that starts at or
+     * after {@code dateTime}, or the number of sessions if there is none.
+     */
+    private static int indexOfFirstSessionFrom(List<CaringSession> sessions, LocalDateTime dateTime) {
+        int low = 0;
+        int high = sessions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sessions.get(middle).getDateTime().isBefore(dateTime)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first of {@code sessions}, which are sorted by date and time, that starts after
+     * {@code session}, or the number of sessions if there is none.
+     */
+    private static int indexOfFirstSessionAfter(List<CaringSession> sessions, CaringSession session) {
+        int low = 0;
+        int high = sessions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (CaringSession.CHRONOLOGICAL_ORDER.compare(sessions.get(middle), session) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 
     /**
@@ -0,0 +1,138 @@
+package seedu.noknock.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.noknock.model.tag.Tag;
+
+/**
+ * An index from the IC, ward and tags of patients to the patients, so that looking them up does not scan every patient.
+ * Patients are indexed by instance, so the index is kept in sync by the {@code UniquePatientList} that holds them.
+ * An IC identifies at most one patient, which the {@code UniquePatientList} ensures before indexing a patient.
+ */
+public class PatientAttributeIndex {
+
+    private final Map<IC, Patient> patientsByIc = new HashMap<>();
+    private final Map<Ward, Set<Patient>> patientsByWard = new HashMap<>();
+    private final Map<Tag, Set<Patient>> patientsByTag = new HashMap<>();
+    private long version;
+
+    /**
+     * Returns the patient with {@code ic}, if there is one.
+     */
+    public Optional<Patient> getPatientWithIC(IC ic) {
+        requireNonNull(ic);
+        return Optional.ofNullable(patientsByIc.get(ic));
+    }
+
+    /**
+     * Returns the patients in {@code ward}.
+     */
+    public Set<Patient> getPatientsInWard(Ward ward) {
+        requireNonNull(ward);
+        return Collections.unmodifiableSet(patientsByWard.getOrDefault(ward, Set.of()));
+    }
+
+    /**
+     * Returns the patients tagged with {@code tag}.
+     */
+    public Set<Patient> getPatientsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return Collections.unmodifiableSet(patientsByTag.getOrDefault(tag, Set.of()));
+    }
+
+    /**
+     * Returns the patients with {@code ic}, if it is not null, in {@code ward}, if it is not null, and tagged with all
+     * of {@code tags}. The smallest of the sets of patients looked up is the one that the others are checked against.
+     * @throws IllegalArgumentException if neither an IC, a ward nor any tags are given.
+     */
+    public Set<Patient> getPatientsWith(IC ic, Ward ward, Set<Tag> tags) {
+        requireNonNull(tags);
+        List<Set<Patient>> lookedUp = new ArrayList<>();
+        if (ic != null) {
+            lookedUp.add(getPatientWithIC(ic).map(Set::of).orElse(Set.of()));
+        }
+        if (ward != null) {
+            lookedUp.add(patientsByWard.getOrDefault(ward, Set.of()));
+        }
+        for (Tag tag : tags) {
+            lookedUp.add(patientsByTag.getOrDefault(tag, Set.of()));
+        }
+        checkArgument(!lookedUp.isEmpty(), "No IC, ward or tags to look up");
+
+        lookedUp.sort(Comparator.comparingInt(Set::size));
+        Set<Patient> patients = newPatientSet();
+        for (Patient patient : lookedUp.get(0)) {
+            if (lookedUp.stream().allMatch(set -> set.contains(patient))) {
+                patients.add(patient);
+            }
+        }
+        return patients;
+    }
+
+    /**
+     * Returns a number that changes whenever a patient is added to or removed from the index.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Indexes the IC, ward and tags of {@code patient}.
+     * No other patient in the index may have the same IC.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        assert !patientsByIc.containsKey(patient.getIC());
+        version++;
+        patientsByIc.put(patient.getIC(), patient);
+        patientsByWard.computeIfAbsent(patient.getWard(), ward -> newPatientSet()).add(patient);
+        for (Tag tag : patient.getTags()) {
+            patientsByTag.computeIfAbsent(tag, t -> newPatientSet()).add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient}, which must be the same instance that was added, from the index.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        version++;
+        patientsByIc.remove(patient.getIC(), patient);
+        removeFrom(patientsByWard, patient.getWard(), patient);
+        for (Tag tag : patient.getTags()) {
+            removeFrom(patientsByTag, tag, patient);
+        }
+    }
+
+    /**
+     * Removes all patients from the index.
+     */
+    void clear() {
+        version++;
+        patientsByIc.clear();
+        patientsByWard.clear();
+        patientsByTag.clear();
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Patient>> patientsByKey, K key, Patient patient) {
+        Set<Patient> patients = patientsByKey.get(key);
+        if (patients != null && patients.remove(patient) && patients.isEmpty()) {
+            patientsByKey.remove(key);
+        }
+    }
+
+    private static Set<Patient> newPatientSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
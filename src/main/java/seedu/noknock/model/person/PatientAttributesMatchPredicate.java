@@ -0,0 +1,79 @@
+package seedu.noknock.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.tag.Tag;
+
+/**
+ * Tests that a {@code Patient} has the IC and ward given, if any, and all of the tags given.
+ */
+public class PatientAttributesMatchPredicate implements Predicate<Patient> {
+    private final IC ic;
+    private final Ward ward;
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a predicate for patients with {@code ic}, in {@code ward} and with all of {@code tags}.
+     * {@code ic} and {@code ward} may be null to match patients with any IC or in any ward.
+     */
+    public PatientAttributesMatchPredicate(IC ic, Ward ward, Set<Tag> tags) {
+        requireNonNull(tags);
+        this.ic = ic;
+        this.ward = ward;
+        this.tags = Set.copyOf(tags);
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return (ic == null || ic.equals(patient.getIC()))
+            && (ward == null || ward.equals(patient.getWard()))
+            && patient.getTags().containsAll(tags);
+    }
+
+    /**
+     * Returns a predicate that matches the same patients in {@code index} as this one, by looking up the patients
+     * with the IC, ward and tags once, rather than comparing them for every patient tested.
+     */
+    public Predicate<Patient> withIndex(PatientAttributeIndex index) {
+        requireNonNull(index);
+        if (ic == null && ward == null && tags.isEmpty()) {
+            return patient -> true;
+        }
+        return new IndexLookupPredicate(index::getVersion, () -> index.getPatientsWith(ic, ward, tags));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PatientAttributesMatchPredicate)) {
+            return false;
+        }
+
+        PatientAttributesMatchPredicate otherPredicate = (PatientAttributesMatchPredicate) other;
+        return Objects.equals(ic, otherPredicate.ic)
+            && Objects.equals(ward, otherPredicate.ward)
+            && tags.equals(otherPredicate.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ic, ward, tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("ic", ic)
+            .add("ward", ward)
+            .add("tags", tags)
+            .toString();
+    }
+}
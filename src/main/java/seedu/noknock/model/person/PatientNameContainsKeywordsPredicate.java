@@ -31,6 +31,10 @@ public class PatientNameContainsKeywordsPredicate implements Predicate<Patient>
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     /**
      * Compares this predicate with another object for equality.
      * Two predicates are equal if they are of the same class and have the same keywords.
@@ -0,0 +1,145 @@
+package seedu.noknock.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index from the words in patients' names and in their next-of-kin's names to the patients, ignoring case.
+ * Patients are indexed by instance, so the index is kept in sync by the {@code UniquePatientList} that holds them.
+ * Finding the patients with a word is a lookup, rather than splitting and comparing the names of every patient.
+ * Name words are kept in order, so that the words starting with a prefix are next to each other.
+ */
+public class PatientNameIndex {
+
+    private final NavigableMap<String, Set<Patient>> patientsByNameWord = new TreeMap<>();
+    private final Map<String, Set<Patient>> patientsByNextOfKinNameWord = new HashMap<>();
+    private long version;
+
+    /**
+     * Returns the patients with {@code word} as a whole word in their name, ignoring case.
+     */
+    public Set<Patient> getPatientsWithNameWord(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(patientsByNameWord.getOrDefault(normalize(word), Set.of()));
+    }
+
+    /**
+     * Returns the patients with {@code word} as a whole word in the name of any of their next-of-kin, ignoring case.
+     */
+    public Set<Patient> getPatientsWithNextOfKinNameWord(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(patientsByNextOfKinNameWord.getOrDefault(normalize(word), Set.of()));
+    }
+
+    /**
+     * Returns the patients with any of {@code words} as a whole word in their name, ignoring case.
+     */
+    public Set<Patient> getPatientsWithAnyNameWord(Collection<String> words) {
+        return getPatientsWithAnyWord(patientsByNameWord, words);
+    }
+
+    /**
+     * Returns the patients with any of {@code words} as a whole word in the name of any of their next-of-kin,
+     * ignoring case.
+     */
+    public Set<Patient> getPatientsWithAnyNextOfKinNameWord(Collection<String> words) {
+        return getPatientsWithAnyWord(patientsByNextOfKinNameWord, words);
+    }
+
+    /**
+     * Returns a number that changes whenever a patient is added to or removed from the index.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Indexes the names of {@code patient} and of their next-of-kin.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        version++;
+        for (String word : splitIntoWords(patient.getName())) {
+            patientsByNameWord.computeIfAbsent(word, w -> newPatientSet()).add(patient);
+        }
+        for (NextOfKin nextOfKin : patient.getNextOfKinList()) {
+            for (String word : splitIntoWords(nextOfKin.getName())) {
+                patientsByNextOfKinNameWord.computeIfAbsent(word, w -> newPatientSet()).add(patient);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code patient}, which must be the same instance that was added, from the index.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        version++;
+        for (String word : splitIntoWords(patient.getName())) {
+            removeFrom(patientsByNameWord, word, patient);
+        }
+        for (NextOfKin nextOfKin : patient.getNextOfKinList()) {
+            for (String word : splitIntoWords(nextOfKin.getName())) {
+                removeFrom(patientsByNextOfKinNameWord, word, patient);
+            }
+        }
+    }
+
+    /**
+     * Removes all patients from the index.
+     */
+    void clear() {
+        version++;
+        patientsByNameWord.clear();
+        patientsByNextOfKinNameWord.clear();
+    }
+
+    /**
+     * Returns the patients of each name word, ordered by word, for {@code PatientNameSearch} to look up words in.
+     * Neither the map nor its sets should be modified.
+     */
+    NavigableMap<String, Set<Patient>> getPatientsByNameWord() {
+        return patientsByNameWord;
+    }
+
+    private static Set<Patient> getPatientsWithAnyWord(Map<String, Set<Patient>> patientsByWord,
+            Collection<String> words) {
+        requireNonNull(words);
+        Set<Patient> patients = newPatientSet();
+        for (String word : words) {
+            patients.addAll(patientsByWord.getOrDefault(normalize(word), Set.of()));
+        }
+        return patients;
+    }
+
+    private static void removeFrom(Map<String, Set<Patient>> patientsByWord, String word, Patient patient) {
+        Set<Patient> patients = patientsByWord.get(word);
+        if (patients != null && patients.remove(patient) && patients.isEmpty()) {
+            patientsByWord.remove(word);
+        }
+    }
+
+    private static String[] splitIntoWords(Name name) {
+        return normalize(name.fullName).split("\\s+");
+    }
+
+    /**
+     * Returns {@code word} in the form that it is indexed in.
+     */
+    static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Patient> newPatientSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
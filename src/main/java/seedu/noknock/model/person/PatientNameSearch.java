@@ -0,0 +1,267 @@
+package seedu.noknock.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Ranks patients by how well the words in their names match a list of keywords, ignoring case.
+ * A name word matches a keyword exactly, by starting with it, or by being a few typing mistakes away from it,
+ * in decreasing order of score. A patient scores the sum, over all keywords, of their best matching name word.
+ * Exact and prefix matches are found in a range of the {@link PatientNameIndex}, so their cost grows with the
+ * number of matches. Misspellings are found by walking the index's ordered name words like a trie, so that words
+ * sharing a prefix share its part of the edit table, and words under a prefix that is already too far from the
+ * keyword are skipped together.
+ */
+public class PatientNameSearch {
+
+    private static final int EXACT_MATCH_SCORE = 4;
+    private static final int PREFIX_MATCH_SCORE = 2;
+    private static final int MISSPELLED_MATCH_SCORE = 1;
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    /** Orders results with the same score by name. */
+    private static final Comparator<Patient> BY_NAME =
+            Comparator.comparing((Patient patient) -> patient.getName().fullName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(patient -> patient.getName().fullName);
+
+    private final PatientNameIndex index;
+
+    /**
+     * Creates a {@code PatientNameSearch} over the patients in {@code index}, which is searched as it is at the time
+     * of each search.
+     */
+    public PatientNameSearch(PatientNameIndex index) {
+        requireNonNull(index);
+        this.index = index;
+    }
+
+    /**
+     * Returns up to {@code maxResults} patients that match any of {@code keywords}, best match first.
+     */
+    public List<Patient> search(List<String> keywords, int maxResults) {
+        requireNonNull(keywords);
+        // the best score of each patient for each keyword, which are summed once all keywords are matched
+        Map<Patient, int[]> keywordScores = new IdentityHashMap<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            addKeywordScores(keywordScores, keywords.size(), i, PatientNameIndex.normalize(keywords.get(i)));
+        }
+
+        List<List<Patient>> patientsByScore = newScoreBuckets(keywords.size());
+        keywordScores.forEach((patient, patientScores) ->
+                patientsByScore.get(Arrays.stream(patientScores).sum()).add(patient));
+        return getBest(patientsByScore, maxResults);
+    }
+
+    /**
+     * Returns up to {@code maxResults} of {@code candidates} that have a name word starting with any of
+     * {@code keywords}, best match first. Exact matches rank above prefix matches, and misspellings are not matched.
+     * Unlike {@link #search(List, int)}, this splits the name of each candidate instead of using the index, so it can
+     * run on any thread over patients that are not in the address book's list, such as a copy of it.
+     *
+     * @param isCancelled checked as the candidates are scanned.
+     * @throws CancellationException if {@code isCancelled} returns true before the scan finishes.
+     */
+    public static List<Patient> searchByPrefix(List<Patient> candidates, List<String> keywords, int maxResults,
+            BooleanSupplier isCancelled) {
+        requireAllNonNull(candidates, keywords, isCancelled);
+        List<String> normalizedKeywords = keywords.stream()
+                .map(PatientNameIndex::normalize)
+                .filter(keyword -> !keyword.isEmpty())
+                .toList();
+
+        List<List<Patient>> patientsByScore = newScoreBuckets(normalizedKeywords.size());
+        int scanned = 0;
+        for (Patient candidate : candidates) {
+            if (scanned++ % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            int score = getPrefixMatchScore(candidate, normalizedKeywords);
+            if (score > 0) {
+                patientsByScore.get(score).add(candidate);
+            }
+        }
+        return getBest(patientsByScore, maxResults);
+    }
+
+    /**
+     * Returns the number of typing mistakes allowed when matching {@code keyword}.
+     * Short keywords must be spelt correctly, as too many names are a mistake or two away from them.
+     */
+    static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= 3) {
+            return 0;
+        }
+        return keyword.length() <= 6 ? 1 : 2;
+    }
+
+    private void addKeywordScores(Map<Patient, int[]> keywordScores, int keywordCount, int keywordIndex,
+            String keyword) {
+        if (keyword.isEmpty()) {
+            return;
+        }
+
+        NavigableMap<String, Set<Patient>> patientsByNameWord = index.getPatientsByNameWord();
+        patientsByNameWord.subMap(keyword, true, keyword + Character.MAX_VALUE, false).forEach((word, patients) ->
+                addScore(keywordScores, keywordCount, keywordIndex, patients,
+                        word.equals(keyword) ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE));
+
+        int maxEditDistance = getMaxEditDistance(keyword);
+        if (maxEditDistance > 0) {
+            forEachMisspelledWord(patientsByNameWord, keyword, maxEditDistance, patients ->
+                    addScore(keywordScores, keywordCount, keywordIndex, patients, MISSPELLED_MATCH_SCORE));
+        }
+    }
+
+    /**
+     * Passes the patients of each word in {@code patientsByNameWord} that is within {@code maxEditDistance} edits of
+     * {@code keyword}, but does not start with it, to {@code action}.
+     * Row {@code i} of the edit table is the distance between the keyword's prefixes and the first {@code i} letters
+     * of the current word, so only the rows after the prefix it shares with the previous word are computed.
+     */
+    private static void forEachMisspelledWord(NavigableMap<String, Set<Patient>> patientsByNameWord, String keyword,
+            int maxEditDistance, Consumer<Set<Patient>> action) {
+        // a row longer than the keyword by more than the maximum distance is always too far from it
+        int[][] rows = new int[keyword.length() + maxEditDistance + 2][keyword.length() + 1];
+        for (int j = 0; j <= keyword.length(); j++) {
+            rows[0][j] = j;
+        }
+
+        String previousWord = "";
+        int computedRows = 0;
+        String word = patientsByNameWord.isEmpty() ? null : patientsByNameWord.firstKey();
+        while (word != null) {
+            int depth = Math.min(computedRows, getCommonPrefixLength(previousWord, word));
+            boolean isTooFar = false;
+            while (depth < word.length() && !isTooFar) {
+                isTooFar = computeNextRow(rows[depth], rows[depth + 1], keyword, word.charAt(depth))
+                        > maxEditDistance;
+                depth++;
+            }
+            previousWord = word;
+            computedRows = depth;
+
+            if (isTooFar) {
+                // no word starting with this prefix can be close enough
+                word = patientsByNameWord.ceilingKey(word.substring(0, depth) + Character.MAX_VALUE);
+                continue;
+            }
+            if (rows[depth][keyword.length()] <= maxEditDistance && !word.startsWith(keyword)) {
+                action.accept(patientsByNameWord.get(word));
+            }
+            word = patientsByNameWord.higherKey(word);
+        }
+    }
+
+    /**
+     * Fills {@code row} with the edit distances after appending {@code letter} to the word of {@code previousRow},
+     * and returns the smallest of them.
+     */
+    private static int computeNextRow(int[] previousRow, int[] row, String keyword, char letter) {
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int j = 1; j <= keyword.length(); j++) {
+            int substitutionCost = keyword.charAt(j - 1) == letter ? 0 : 1;
+            row[j] = Math.min(previousRow[j - 1] + substitutionCost, Math.min(previousRow[j], row[j - 1]) + 1);
+            rowMinimum = Math.min(rowMinimum, row[j]);
+        }
+        return rowMinimum;
+    }
+
+    private static int getCommonPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        for (int i = 0; i < length; i++) {
+            if (first.charAt(i) != second.charAt(i)) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static int getPrefixMatchScore(Patient patient, List<String> normalizedKeywords) {
+        String[] nameWords = PatientNameIndex.normalize(patient.getName().fullName).split("\\s+");
+        int score = 0;
+        for (String keyword : normalizedKeywords) {
+            int keywordScore = 0;
+            for (String nameWord : nameWords) {
+                if (nameWord.equals(keyword)) {
+                    keywordScore = EXACT_MATCH_SCORE;
+                    break;
+                } else if (nameWord.startsWith(keyword)) {
+                    keywordScore = PREFIX_MATCH_SCORE;
+                }
+            }
+            score += keywordScore;
+        }
+        return score;
+    }
+
+    private static void addScore(Map<Patient, int[]> keywordScores, int keywordCount, int keywordIndex,
+            Set<Patient> patients, int score) {
+        for (Patient patient : patients) {
+            int[] patientScores = keywordScores.computeIfAbsent(patient, unused -> new int[keywordCount]);
+            patientScores[keywordIndex] = Math.max(patientScores[keywordIndex], score);
+        }
+    }
+
+    /**
+     * Returns an empty list of patients for each score that a patient can have for {@code keywordCount} keywords.
+     */
+    private static List<List<Patient>> newScoreBuckets(int keywordCount) {
+        List<List<Patient>> patientsByScore = new ArrayList<>();
+        for (int score = 0; score <= EXACT_MATCH_SCORE * keywordCount; score++) {
+            patientsByScore.add(new ArrayList<>());
+        }
+        return patientsByScore;
+    }
+
+    /**
+     * Returns the {@code maxResults} patients with the highest scores in {@code patientsByScore}, best first.
+     * Names are only compared between patients with the score at which the results are cut off, and only those
+     * patients are ranked without sorting all of them.
+     */
+    private static List<Patient> getBest(List<List<Patient>> patientsByScore, int maxResults) {
+        List<Patient> results = new ArrayList<>();
+        for (int score = patientsByScore.size() - 1; score > 0 && results.size() < maxResults; score--) {
+            results.addAll(getFirstByName(patientsByScore.get(score), maxResults - results.size()));
+        }
+        return results;
+    }
+
+    private static List<Patient> getFirstByName(List<Patient> patients, int count) {
+        if (patients.size() <= count) {
+            patients.sort(BY_NAME);
+            return patients;
+        }
+
+        PriorityQueue<Patient> first = new PriorityQueue<>(BY_NAME.reversed());
+        for (Patient patient : patients) {
+            if (first.size() < count) {
+                first.add(patient);
+            } else if (BY_NAME.compare(patient, first.peek()) < 0) {
+                first.poll();
+                first.add(patient);
+            }
+        }
+
+        List<Patient> results = new ArrayList<>(first.size());
+        while (!first.isEmpty()) {
+            results.add(first.poll());
+        }
+        Collections.reverse(results);
+        return results;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.noknock.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -23,6 +25,15 @@ public class PatientNokContainsKeywordsPredicate implements Predicate<Patient> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(nok.getName().fullName, keyword)));
     }
 
+    /**
+     * Returns a predicate that matches the same patients in {@code index} as this one, by looking up the patients
+     * with the keywords in their next-of-kin's names once, rather than splitting the names for every patient tested.
+     */
+    public Predicate<Patient> withIndex(PatientNameIndex index) {
+        requireNonNull(index);
+        return new IndexLookupPredicate(index::getVersion, () -> index.getPatientsWithAnyNextOfKinNameWord(keywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,13 +3,25 @@ package seedu.noknock.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.noknock.commons.core.ListChange;
+import seedu.noknock.commons.core.PersistentList;
+import seedu.noknock.commons.core.PositionIndex;
+import seedu.noknock.model.person.exceptions.DuplicateIcException;
 import seedu.noknock.model.person.exceptions.DuplicatePatientException;
 import seedu.noknock.model.person.exceptions.PatientNotFoundException;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.CaringSessionCalendar;
+import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * A list of patients that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +30,37 @@ import seedu.noknock.model.person.exceptions.PatientNotFoundException;
  * being added or updated is unique in terms of identity in the UniquePatientList. However, the removal of
  * a patient uses Patient#equals(Object) so as to ensure that the patient with exactly the same fields will be removed.
  *
+ * No two patients in the list may have the same IC either.
+ *
  * Supports a minimal set of list operations.
  *
+ * Identity lookups go through a {@link PositionIndex} of patient names that is kept in sync with the backing list,
+ * so checking for, adding, replacing and removing a patient does not require scanning or reindexing the whole list.
+ * A {@link PatientNameIndex} of the words in patient and next-of-kin names, and a {@link PatientAttributeIndex} of
+ * their ICs, wards and tags, are kept in sync in the same way, as are calendars of all of the patients' caring sessions
+ * and of their incomplete sessions.
+ *
+ * The patients themselves are kept in a {@code PersistentList}, so adding or replacing a patient copies only
+ * O(log n) nodes of the list, and the list of patients at any moment can be kept as a snapshot for free.
+ *
  * @see Patient#isSamePerson(Person)
  */
 public class UniquePatientList implements Iterable<Patient> {
 
-    private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Patient> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<Patient> internalList = PersistentList.of();
+    private final PositionIndex<Name> identityIndex = new PositionIndex<>();
+    private final PatientNameIndex nameIndex = new PatientNameIndex();
+    private final PatientAttributeIndex attributeIndex = new PatientAttributeIndex();
+    private final CaringSessionCalendar sessionCalendar = new CaringSessionCalendar();
+    private final CaringSessionCalendar incompleteSessionCalendar =
+            new CaringSessionCalendar(session -> !session.isComplete());
 
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.contains(toCheck.getName());
     }
 
     /**
@@ -45,7 +72,12 @@ public class UniquePatientList implements Iterable<Patient> {
         if (contains(toAdd)) {
             throw new DuplicatePatientException();
         }
-        internalList.add(toAdd);
+        if (attributeIndex.getPatientWithIC(toAdd.getIC()).isPresent()) {
+            throw new DuplicateIcException();
+        }
+        identityIndex.add(toAdd.getName());
+        addToIndexes(toAdd);
+        internalList = internalList.withAdded(toAdd);
     }
 
     /**
@@ -56,7 +88,7 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
@@ -64,8 +96,15 @@ public class UniquePatientList implements Iterable<Patient> {
         if (!target.isSamePerson(editedPatient) && contains(editedPatient)) {
             throw new DuplicatePatientException();
         }
+        Optional<Patient> patientWithIc = attributeIndex.getPatientWithIC(editedPatient.getIC());
+        if (patientWithIc.isPresent() && patientWithIc.get() != internalList.get(index)) {
+            throw new DuplicateIcException();
+        }
 
-        internalList.set(index, editedPatient);
+        identityIndex.replace(target.getName(), editedPatient.getName());
+        removeFromIndexes(internalList.get(index));
+        addToIndexes(editedPatient);
+        internalList = internalList.withReplaced(index, editedPatient);
     }
 
     /**
@@ -74,34 +113,113 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PatientNotFoundException();
         }
+
+        identityIndex.remove(toRemove.getName());
+        removeFromIndexes(internalList.get(index));
+        internalList = internalList.withRemoved(index);
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setIdentityIndex(replacement.internalList);
+        rebuildIndexes(replacement.internalList);
+        internalList = replacement.internalList;
     }
 
     /**
      * Replaces the contents of this list with {@code patients}.
-     * {@code patients} must not contain duplicate patients.
+     * {@code patients} must not contain duplicate patients, or patients with the same IC.
+     * Duplicates are found in a single pass, and all duplicated identities, or else all duplicated ICs, are
+     * reported together.
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
-        if (!patientsAreUnique(patients)) {
-            throw new DuplicatePatientException();
+        Set<Name> names = new HashSet<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        Set<IC> ics = new HashSet<>();
+        Set<IC> duplicateIcs = new LinkedHashSet<>();
+        for (Patient patient : patients) {
+            if (!names.add(patient.getName())) {
+                duplicateNames.add(patient.getName());
+            }
+            if (!ics.add(patient.getIC())) {
+                duplicateIcs.add(patient.getIC());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePatientException(duplicateNames);
+        }
+        if (!duplicateIcs.isEmpty()) {
+            throw new DuplicateIcException(duplicateIcs);
         }
 
-        internalList.setAll(patients);
+        setIdentityIndex(patients);
+        rebuildIndexes(patients);
+        internalList = PersistentList.copyOf(patients);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Replaces the contents of this list with {@code patients}, which {@code change} turns this list into, such as
+     * an earlier snapshot of this list. Only the patients in {@code change} are updated in the indexes, so this takes
+     * O(k log n) time for a change of k patients.
      */
-    public ObservableList<Patient> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+    public void setPatients(PersistentList<Patient> patients, ListChange<Patient> change) {
+        requireAllNonNull(patients, change);
+        for (Patient patient : change.removed()) {
+            identityIndex.remove(patient.getName());
+            removeFromIndexes(patient);
+        }
+        List<Patient> added = change.added();
+        for (int i = 0; i < added.size(); i++) {
+            identityIndex.add(change.from() + i, added.get(i).getName());
+            addToIndexes(added.get(i));
+        }
+        internalList = patients;
+    }
+
+    /**
+     * Returns the index of the words in the names of the patients in this list and of their next-of-kin.
+     * The index is updated whenever the list is changed.
+     */
+    public PatientNameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Returns the index of the ICs, wards and tags of the patients in this list.
+     * The index is updated whenever the list is changed.
+     */
+    public PatientAttributeIndex getAttributeIndex() {
+        return attributeIndex;
+    }
+
+    /**
+     * Returns the caring sessions of the patients in this list from {@code startDate} to {@code endDate}, both
+     * inclusive, ordered by date and time.
+     */
+    public List<PatientCaringSession> getSessionsBetween(LocalDate startDate, LocalDate endDate) {
+        return sessionCalendar.getSessionsBetween(startDate, endDate);
+    }
+
+    /**
+     * Returns the caring sessions of the patients in this list that are before {@code dateTime} and are not
+     * complete, ordered by date and time.
+     *
+     * @see CaringSession#isComplete()
+     */
+    public List<PatientCaringSession> getIncompleteSessionsBefore(LocalDateTime dateTime) {
+        return incompleteSessionCalendar.getSessionsBefore(dateTime);
+    }
+
+    /**
+     * Returns the patients currently in the list, as a {@code List} that never changes. Takes O(1) time.
+     */
+    public PersistentList<Patient> asUnmodifiableList() {
+        return internalList;
     }
 
     @Override
@@ -135,16 +253,53 @@ public class UniquePatientList implements Iterable<Patient> {
     }
 
     /**
-     * Returns true if {@code patients} contains only unique patients.
+     * Returns the position in this list of the patient with the same identity as {@code patient}, or -1 if there
+     * is no such patient.
      */
-    private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePerson(patients.get(j))) {
-                    return false;
-                }
-            }
+    public int positionOf(Patient patient) {
+        requireNonNull(patient);
+        return identityIndex.positionOf(patient.getName());
+    }
+
+    /**
+     * Returns the position of the patient equal to {@code patient} in the backing list, or -1 if there is none.
+     */
+    private int indexOf(Patient patient) {
+        int index = identityIndex.positionOf(patient.getName());
+        if (index == -1 || !internalList.get(index).equals(patient)) {
+            return -1;
         }
-        return true;
+        return index;
+    }
+
+    private void setIdentityIndex(List<Patient> patients) {
+        List<Name> names = new ArrayList<>(patients.size());
+        patients.forEach(patient -> names.add(patient.getName()));
+        identityIndex.setAll(names);
+    }
+
+    private void rebuildIndexes(List<Patient> patients) {
+        nameIndex.clear();
+        attributeIndex.clear();
+        sessionCalendar.clear();
+        incompleteSessionCalendar.clear();
+        patients.forEach(this::addToIndexes);
+    }
+
+    private void addToIndexes(Patient patient) {
+        nameIndex.add(patient);
+        attributeIndex.add(patient);
+        sessionCalendar.addSessionsOf(patient);
+        incompleteSessionCalendar.addSessionsOf(patient);
+    }
+
+    /**
+     * Removes {@code patient}, which must be the instance stored in the backing list, from every index.
+     */
+    private void removeFromIndexes(Patient patient) {
+        nameIndex.remove(patient);
+        attributeIndex.remove(patient);
+        sessionCalendar.removeSessionsOf(patient);
+        incompleteSessionCalendar.removeSessionsOf(patient);
     }
 }
@@ -44,4 +44,9 @@ public class Ward {
         Ward otherWard = (Ward) other;
         return room.equals(otherWard.getRoom());
     }
+
+    @Override
+    public int hashCode() {
+        return room.hashCode();
+    }
 }
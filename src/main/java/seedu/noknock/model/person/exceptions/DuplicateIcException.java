@@ -0,0 +1,24 @@
+package seedu.noknock.model.person.exceptions;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.noknock.model.person.IC;
+
+/**
+ * Signals that the operation will result in more than one Patient with the same IC.
+ */
+public class DuplicateIcException extends RuntimeException {
+    public DuplicateIcException() {
+        super("Operation would result in patients with the same IC");
+    }
+
+    /**
+     * Creates an exception that reports every IC in {@code duplicateIcs} as held by more than one patient.
+     */
+    public DuplicateIcException(Collection<IC> duplicateIcs) {
+        super("Operation would result in patients with the same IC: " + duplicateIcs.stream()
+                .map(IC::toString)
+                .collect(Collectors.joining(", ")));
+    }
+}
@@ -1,5 +1,10 @@
 package seedu.noknock.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.noknock.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Patients (Patients are considered duplicates if they
  * have the same identity).
@@ -8,4 +13,13 @@ public class DuplicatePatientException extends RuntimeException {
     public DuplicatePatientException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates an exception that reports every identity in {@code duplicateNames} as duplicated.
+     */
+    public DuplicatePatientException(Collection<Name> duplicateNames) {
+        super("Operation would result in duplicate persons: " + duplicateNames.stream()
+                .map(Name::toString)
+                .collect(Collectors.joining(", ")));
+    }
 }
@@ -2,6 +2,9 @@ package seedu.noknock.model.session;
 
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
 import seedu.noknock.model.date.Date;
 import seedu.noknock.model.date.Time;
 
@@ -10,6 +13,12 @@ import seedu.noknock.model.date.Time;
  * Stores the care type, note, date, time, and status of the session.
  */
 public final class CaringSession {
+
+    /** Orders sessions by date, then by time. */
+    public static final Comparator<CaringSession> CHRONOLOGICAL_ORDER =
+        Comparator.comparing((CaringSession session) -> session.date.value)
+            .thenComparing(session -> session.time.value);
+
     private final CareType careType;
     private final Note note;
     private final Date date;
@@ -80,6 +89,13 @@ public final class CaringSession {
         return time;
     }
 
+    /**
+     * Returns the date and time at which this session starts.
+     */
+    public LocalDateTime getDateTime() {
+        return LocalDateTime.of(date.value, time.value);
+    }
+
     /**
      * Returns the status of this session.
      */
@@ -0,0 +1,199 @@
+package seedu.noknock.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import seedu.noknock.model.person.Patient;
+
+/**
+ * An index of the caring sessions of a group of patients, grouped by date and ordered by time within each date.
+ * Patients are added and removed one at a time, so keeping the index up to date as patients change only touches
+ * the dates on which the changed patients have sessions.
+ * Sessions at the same date and time are kept in the order they were added.
+ * Finding the sessions in a range of dates takes time logarithmic in the number of dates, plus the number of sessions
+ * found.
+ */
+public class CaringSessionCalendar {
+
+    private final NavigableMap<LocalDate, List<PatientCaringSession>> sessionsByDate = new TreeMap<>();
+    private final Predicate<CaringSession> sessionFilter;
+    private int size;
+
+    /**
+     * Creates an empty calendar of every session of the patients added to it.
+     */
+    public CaringSessionCalendar() {
+        this(session -> true);
+    }
+
+    /**
+     * Creates an empty calendar of the sessions of the patients added to it that match {@code sessionFilter}.
+     * Sessions are immutable, so a session that is left out never needs to be added later.
+     */
+    public CaringSessionCalendar(Predicate<CaringSession> sessionFilter) {
+        requireNonNull(sessionFilter);
+        this.sessionFilter = sessionFilter;
+    }
+
+    /**
+     * Adds the sessions of {@code patient}.
+     *
+     * @return The dates on which sessions were added.
+     */
+    public NavigableSet<LocalDate> addSessionsOf(Patient patient) {
+        requireNonNull(patient);
+        NavigableSet<LocalDate> changedDates = new TreeSet<>();
+        for (CaringSession session : patient.getCaringSessionList()) {
+            if (!sessionFilter.test(session)) {
+                continue;
+            }
+            LocalDate date = session.getDate().value;
+            List<PatientCaringSession> sessionsOnDate = sessionsByDate.computeIfAbsent(date, d -> new ArrayList<>());
+            sessionsOnDate.add(indexOfFirstAfter(sessionsOnDate, session.getTime().value),
+                    new PatientCaringSession(patient, session));
+            changedDates.add(date);
+            size++;
+        }
+        return changedDates;
+    }
+
+    /**
+     * Removes the sessions of {@code patient}, which must be the same instance that was added.
+     *
+     * @return The dates on which sessions were removed.
+     */
+    public NavigableSet<LocalDate> removeSessionsOf(Patient patient) {
+        requireNonNull(patient);
+        NavigableSet<LocalDate> changedDates = new TreeSet<>();
+        for (CaringSession session : patient.getCaringSessionList()) {
+            LocalDate date = session.getDate().value;
+            List<PatientCaringSession> sessionsOnDate = sessionsByDate.get(date);
+            if (sessionsOnDate == null || !sessionFilter.test(session)) {
+                continue;
+            }
+
+            LocalTime time = session.getTime().value;
+            int end = indexOfFirstAfter(sessionsOnDate, time);
+            for (int i = indexOfFirstFrom(sessionsOnDate, time); i < end; i++) {
+                PatientCaringSession candidate = sessionsOnDate.get(i);
+                if (candidate.getPatient() == patient && candidate.getCaringSession() == session) {
+                    sessionsOnDate.remove(i);
+                    changedDates.add(date);
+                    size--;
+                    break;
+                }
+            }
+            if (sessionsOnDate.isEmpty()) {
+                sessionsByDate.remove(date);
+            }
+        }
+        return changedDates;
+    }
+
+    /**
+     * Removes all sessions.
+     */
+    public void clear() {
+        sessionsByDate.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the sessions on {@code date} ordered by time, or an empty list if there are none.
+     */
+    public List<PatientCaringSession> getSessionsOn(LocalDate date) {
+        requireNonNull(date);
+        List<PatientCaringSession> sessionsOnDate = sessionsByDate.get(date);
+        return sessionsOnDate == null ? List.of() : Collections.unmodifiableList(sessionsOnDate);
+    }
+
+    /**
+     * Returns the sessions from {@code startDate} to {@code endDate}, both inclusive, ordered by date and time.
+     */
+    public List<PatientCaringSession> getSessionsBetween(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        if (endDate.isBefore(startDate)) {
+            return List.of();
+        }
+        return concatenate(sessionsByDate.subMap(startDate, true, endDate, true).values());
+    }
+
+    /**
+     * Returns the sessions before {@code dateTime}, ordered by date and time.
+     */
+    public List<PatientCaringSession> getSessionsBefore(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        LocalDate date = dateTime.toLocalDate();
+        List<PatientCaringSession> sessions = concatenate(sessionsByDate.headMap(date, false).values());
+        List<PatientCaringSession> sessionsOnDate = getSessionsOn(date);
+        sessions.addAll(sessionsOnDate.subList(0, indexOfFirstFrom(sessionsOnDate, dateTime.toLocalTime())));
+        return sessions;
+    }
+
+    /**
+     * Returns the dates that have at least one session, in ascending order.
+     */
+    public NavigableSet<LocalDate> getDates() {
+        return Collections.unmodifiableNavigableSet(sessionsByDate.navigableKeySet());
+    }
+
+    /**
+     * Returns the total number of sessions.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static List<PatientCaringSession> concatenate(Collection<List<PatientCaringSession>> sessionsByDate) {
+        List<PatientCaringSession> sessions = new ArrayList<>();
+        sessionsByDate.forEach(sessions::addAll);
+        return sessions;
+    }
+
+    /**
+     * Returns the position of the first session in {@code sessionsOnDate} that is at or after {@code time}.
+     */
+    private static int indexOfFirstFrom(List<PatientCaringSession> sessionsOnDate, LocalTime time) {
+        int low = 0;
+        int high = sessionsOnDate.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sessionsOnDate.get(middle).getCaringSession().getTime().value.isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first session in {@code sessionsOnDate} that is after {@code time}.
+     */
+    private static int indexOfFirstAfter(List<PatientCaringSession> sessionsOnDate, LocalTime time) {
+        int low = 0;
+        int high = sessionsOnDate.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sessionsOnDate.get(middle).getCaringSession().getTime().value.isAfter(time)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.noknock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.DataFileFormat;
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.model.ReadOnlyAddressBook;
+
+/**
+ * Imports and exports address book data files between the supported {@link DataFileFormat}s.
+ */
+public class AddressBookFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    /**
+     * Returns a storage that reads and writes the address book at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage getStorage(DataFileFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, or {@code Optional.empty()} if there is no such file.
+     */
+    public static Optional<DataFileFormat> detectFormat(Path filePath) {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(BinaryAddressBookStorage.isBinaryFile(filePath)
+                ? DataFileFormat.BINARY
+                : DataFileFormat.JSON);
+    }
+
+    /**
+     * Reads the data file at {@code source} in whichever format it is saved in, and saves its data to
+     * {@code target} in {@code targetFormat}.
+     * {@code source} and {@code target} may be the same file, in which case it is converted in place and its
+     * previous version is kept as its newest backup.
+     *
+     * @throws DataLoadingException if {@code source} does not exist or could not be loaded.
+     * @throws IOException if there was an error writing to {@code target}.
+     */
+    public static void convert(Path source, Path target, DataFileFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(targetFormat);
+
+        Optional<DataFileFormat> sourceFormat = detectFormat(source);
+        if (!sourceFormat.isPresent()) {
+            throw new DataLoadingException(new NoSuchFileException(source.toString()));
+        }
+
+        logger.info("Converting " + sourceFormat.get() + " data file " + source + " to "
+                + targetFormat + " data file " + target);
+        ReadOnlyAddressBook addressBook = getStorage(sourceFormat.get(), source).readAddressBook().get();
+        getStorage(targetFormat, target).saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.noknock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps an {@code AddressBookStorage} so that saves are written on a background thread.
+ * Each save takes a snapshot of the address book on the calling thread and queues it. Saves that arrive while
+ * an earlier one is still queued replace it, so a burst of commands results in a single write.
+ * A failed background write is reported by the next call to {@link #saveAddressBook(ReadOnlyAddressBook)} or
+ * {@link #flushAddressBook()}, and its snapshot is kept to be retried unless a newer save replaces it.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService saver = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> failedSave = new AtomicReference<>();
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes through {@code addressBookStorage}.
+     * All access to {@code addressBookStorage} happens on a single background thread.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            return callOnSaver(() -> addressBookStorage.readAddressBook(filePath));
+        } catch (DataLoadingException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written in the background.
+     *
+     * @throws IOException if an earlier background write failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        throwIfSaveFailed();
+
+        pendingSnapshot.set(addressBook.snapshot());
+        saver.execute(this::writePendingSnapshot);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but waits for the write to finish, as saves to
+     * other locations are one-off exports rather than part of a burst of commands.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        callOnSaverForIo(() -> {
+            addressBookStorage.saveAddressBook(snapshot, filePath);
+            return null;
+        });
+    }
+
+    /**
+     * Waits for any queued save to be written, then flushes the wrapped storage.
+     *
+     * @throws IOException if the queued save, an earlier background write, or the flush failed.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        callOnSaverForIo(() -> {
+            writePendingSnapshot();
+            addressBookStorage.flushAddressBook();
+            return null;
+        });
+        throwIfSaveFailed();
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+        } catch (IOException ioe) {
+            keepFailedSnapshot(snapshot, ioe);
+        } catch (RuntimeException re) {
+            // would otherwise be swallowed by the executor, losing the snapshot without a report
+            keepFailedSnapshot(snapshot, new IOException(re));
+        }
+    }
+
+    private void keepFailedSnapshot(ReadOnlyAddressBook snapshot, IOException failure) {
+        logger.warning("Background save to " + getAddressBookFilePath() + " failed: " + failure);
+        pendingSnapshot.compareAndSet(null, snapshot);
+        failedSave.compareAndSet(null, failure);
+    }
+
+    private void throwIfSaveFailed() throws IOException {
+        IOException failure = failedSave.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <T> T callOnSaverForIo(Callable<T> task) throws IOException {
+        try {
+            return callOnSaver(task);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the background thread after all queued saves, and waits for its result.
+     */
+    private <T> T callOnSaver(Callable<T> task) throws Exception {
+        try {
+            return saver.submit(task).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + getAddressBookFilePath());
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.noknock.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.util.FileUtil;
+
+/**
+ * Reads data files that are saved with rolling backups by {@link FileUtil#writeAtomically}.
+ */
+class BackupFallback {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupFallback.class);
+
+    /**
+     * Reads the file at {@code filePath} with {@code fileReader}.
+     * If the file is missing or cannot be loaded, the newest of its {@code backupGenerations} backups that can be
+     * loaded is returned instead.
+     *
+     * @return {@code Optional.empty()} if neither the file nor any of its backups exist.
+     * @throws DataLoadingException if none of the existing files could be loaded, with the failure of the newest.
+     */
+    static <T> Optional<T> read(Path filePath, int backupGenerations, FileReader<T> fileReader)
+            throws DataLoadingException {
+        DataLoadingException firstFailure = null;
+        for (int generation = 0; generation <= backupGenerations; generation++) {
+            Path generationPath = generation == 0 ? filePath : FileUtil.getBackupPath(filePath, generation);
+            if (!Files.exists(generationPath)) {
+                continue;
+            }
+            try {
+                T data = fileReader.read(generationPath);
+                if (generation > 0) {
+                    logger.warning("Recovered data from backup " + generationPath + " as " + filePath
+                            + " could not be loaded.");
+                }
+                return Optional.of(data);
+            } catch (DataLoadingException e) {
+                firstFailure = firstFailure == null ? e : firstFailure;
+            }
+        }
+
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads a single data file.
+     */
+    @FunctionalInterface
+    interface FileReader<T> {
+        T read(Path filePath) throws DataLoadingException;
+    }
+}
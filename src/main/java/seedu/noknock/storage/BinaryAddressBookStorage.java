@@ -0,0 +1,461 @@
+package seedu.noknock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.core.PersistentList;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.exceptions.IllegalValueException;
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.Phone;
+import seedu.noknock.model.person.Relationship;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.person.exceptions.DuplicateIcException;
+import seedu.noknock.model.person.exceptions.DuplicatePatientException;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * The file starts with a header holding the format version and a table of the strings that many patients share,
+ * such as ward codes, tags and care types, which records refer to by position. It is followed by one
+ * length-prefixed record per patient, in which dates and times are stored as epoch days and seconds of the day.
+ * The file is replaced atomically on every save, keeping the previous versions as rolling backups.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary data file, "NKNB" in ASCII. */
+    public static final int MAGIC_NUMBER = 0x4E4B4E42;
+    public static final int FORMAT_VERSION = 1;
+    public static final int BACKUP_GENERATIONS = JsonAddressBookStorage.BACKUP_GENERATIONS;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version %d, expected %d";
+    public static final String MESSAGE_MALFORMED_RECORD = "Malformed record for patient %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts like a binary data file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC_NUMBER;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file at {@code filePath} is missing or cannot be loaded, the newest backup that can be loaded is
+     * returned instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if neither the file nor any of its backups could be loaded.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return BackupFallback.read(filePath, BACKUP_GENERATIONS, this::readAddressBookFile);
+    }
+
+    private ReadOnlyAddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+
+        AddressBook addressBook = new AddressBook();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            addressBook.setPatients(readPatients(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePatientException dpe) {
+            logger.info("Illegal values found in " + filePath + ": " + dpe.getMessage());
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        } catch (DuplicateIcException die) {
+            logger.info("Illegal values found in " + filePath + ": " + die.getMessage());
+            throw new DataLoadingException(new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_IC));
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // shared rather than copied if the address book keeps its patients in a PersistentList
+        List<Patient> patients = PersistentList.copyOf(addressBook.getPatientList());
+        FileUtil.writeAtomically(filePath, BACKUP_GENERATIONS, out -> writePatients(out, patients));
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // every save is written through to the file, so there is nothing buffered
+    }
+
+    // ================ Writing ==============================
+
+    private static void writePatients(OutputStream out, List<Patient> patients) throws IOException {
+        Map<String, Integer> stringTable = buildStringTable(patients);
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC_NUMBER);
+        dataOut.writeInt(FORMAT_VERSION);
+        dataOut.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(dataOut, string);
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        dataOut.writeInt(patients.size());
+        for (Patient patient : patients) {
+            recordBytes.reset();
+            writePatient(record, patient, stringTable);
+            dataOut.writeInt(recordBytes.size());
+            recordBytes.writeTo(dataOut);
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * Returns the position of each distinct string that is shared between patients, in order of first use.
+     */
+    private static Map<String, Integer> buildStringTable(List<Patient> patients) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Patient patient : patients) {
+            stringTable.putIfAbsent(patient.getWard().toString(), stringTable.size());
+            for (Tag tag : patient.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+            for (NextOfKin nextOfKin : patient.getNextOfKinList()) {
+                stringTable.putIfAbsent(nextOfKin.getRelationship().name(), stringTable.size());
+            }
+            for (CaringSession session : patient.getCaringSessionList()) {
+                stringTable.putIfAbsent(session.getCareType().value, stringTable.size());
+                stringTable.putIfAbsent(session.getStatus().name(), stringTable.size());
+            }
+        }
+        return stringTable;
+    }
+
+    private static void writePatient(DataOutputStream out, Patient patient, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(out, patient.getName().fullName);
+        writeString(out, patient.getIC().toString());
+        out.writeInt(stringTable.get(patient.getWard().toString()));
+
+        out.writeInt(patient.getTags().size());
+        for (Tag tag : patient.getTags()) {
+            out.writeInt(stringTable.get(tag.tagName));
+        }
+
+        out.writeInt(patient.getNextOfKinList().size());
+        for (NextOfKin nextOfKin : patient.getNextOfKinList()) {
+            writeString(out, nextOfKin.getName().fullName);
+            writeString(out, nextOfKin.getPhone().value);
+            out.writeInt(stringTable.get(nextOfKin.getRelationship().name()));
+        }
+
+        List<CaringSession> sessions = patient.getCaringSessionList();
+        out.writeInt(sessions.size());
+        for (CaringSession session : sessions) {
+            out.writeInt(stringTable.get(session.getCareType().value));
+            writeString(out, session.getNote().toString());
+            out.writeInt(Math.toIntExact(session.getDate().value.toEpochDay()));
+            out.writeInt(session.getTime().value.toSecondOfDay());
+            out.writeInt(stringTable.get(session.getStatus().name()));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Reads the patients in a binary data file from {@code in}.
+     * The counts in the file are not trusted to size anything up front: the string table and the patient list grow
+     * as their entries are actually read, so a corrupt count runs into the end of the file instead of exhausting
+     * memory.
+     */
+    private static List<Patient> readPatients(DataInputStream in) throws IOException, IllegalValueException {
+        try {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, FORMAT_VERSION));
+            }
+
+            int stringCount = readCount(in);
+            List<String> strings = new ArrayList<>();
+            for (int i = 0; i < stringCount; i++) {
+                byte[] bytes = readBytes(in, readCount(in));
+                strings.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            RecordReader recordReader = new RecordReader(strings.toArray(String[]::new));
+
+            int patientCount = readCount(in);
+            List<Patient> patients = new ArrayList<>();
+            for (int i = 0; i < patientCount; i++) {
+                ByteBuffer record = ByteBuffer.wrap(readBytes(in, readCount(in)));
+                try {
+                    patients.add(recordReader.readPatient(record));
+                } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                    throw new IllegalValueException(String.format(MESSAGE_MALFORMED_RECORD, i + 1));
+                }
+                if (record.hasRemaining()) {
+                    throw new IllegalValueException(String.format(MESSAGE_MALFORMED_RECORD, i + 1));
+                }
+            }
+            return patients;
+        } catch (EOFException eofe) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+    }
+
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        return count;
+    }
+
+    /**
+     * Reads exactly {@code length} bytes without allocating more than has actually been read, so that a corrupt
+     * length cannot exhaust memory.
+     */
+    private static byte[] readBytes(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads patient records, creating each value from the string table once and sharing it between patients.
+     */
+    private static class RecordReader {
+        private final String[] strings;
+        private final Ward[] wards;
+        private final Tag[] tags;
+        private final Relationship[] relationships;
+        private final CareType[] careTypes;
+        private final SessionStatus[] statuses;
+
+        RecordReader(String[] strings) {
+            this.strings = strings;
+            wards = new Ward[strings.length];
+            tags = new Tag[strings.length];
+            relationships = new Relationship[strings.length];
+            careTypes = new CareType[strings.length];
+            statuses = new SessionStatus[strings.length];
+        }
+
+        Patient readPatient(ByteBuffer record) throws IllegalValueException {
+            String name = readString(record);
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            String ic = readString(record);
+            if (!IC.isValidIC(ic)) {
+                throw new IllegalValueException(IC.MESSAGE_CONSTRAINTS);
+            }
+            Ward ward = readWard(record.getInt());
+
+            int tagCount = record.getInt();
+            Set<Tag> patientTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                patientTags.add(readTag(record.getInt()));
+            }
+
+            int nextOfKinCount = record.getInt();
+            List<NextOfKin> nextOfKins = new ArrayList<>();
+            for (int i = 0; i < nextOfKinCount; i++) {
+                nextOfKins.add(readNextOfKin(record));
+            }
+
+            int sessionCount = record.getInt();
+            List<CaringSession> sessions = new ArrayList<>();
+            for (int i = 0; i < sessionCount; i++) {
+                sessions.add(readCaringSession(record));
+            }
+
+            return new Patient(new Name(name), ward, new IC(ic), patientTags)
+                    .withNextOfKinList(nextOfKins)
+                    .withCaringSessionList(sessions);
+        }
+
+        private NextOfKin readNextOfKin(ByteBuffer record) throws IllegalValueException {
+            String name = readString(record);
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            String phone = readString(record);
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            return new NextOfKin(new Name(name), new Phone(phone), readRelationship(record.getInt()));
+        }
+
+        private CaringSession readCaringSession(ByteBuffer record) throws IllegalValueException {
+            CareType careType = readCareType(record.getInt());
+            String note = readString(record);
+            if (!Note.isValidNote(note)) {
+                throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+            }
+
+            LocalDate date;
+            try {
+                date = LocalDate.ofEpochDay(record.getInt());
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            LocalTime time;
+            try {
+                time = LocalTime.ofSecondOfDay(record.getInt());
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
+            }
+
+            return new CaringSession(careType, new Note(note), new Date(date), new Time(time),
+                    readStatus(record.getInt()));
+        }
+
+        private Ward readWard(int ref) throws IllegalValueException {
+            if (wards[ref] == null) {
+                if (!Ward.isValidWard(strings[ref])) {
+                    throw new IllegalValueException(Ward.MESSAGE_CONSTRAINTS);
+                }
+                wards[ref] = new Ward(strings[ref]);
+            }
+            return wards[ref];
+        }
+
+        private Tag readTag(int ref) throws IllegalValueException {
+            if (tags[ref] == null) {
+                if (!Tag.isValidTagName(strings[ref])) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[ref] = new Tag(strings[ref]);
+            }
+            return tags[ref];
+        }
+
+        private Relationship readRelationship(int ref) throws IllegalValueException {
+            if (relationships[ref] == null) {
+                if (!Relationship.isValidRelationship(strings[ref])) {
+                    throw new IllegalValueException(Relationship.MESSAGE_CONSTRAINTS);
+                }
+                relationships[ref] = Relationship.fromString(strings[ref]);
+            }
+            return relationships[ref];
+        }
+
+        private CareType readCareType(int ref) throws IllegalValueException {
+            if (careTypes[ref] == null) {
+                if (!CareType.isValidCareType(strings[ref])) {
+                    throw new IllegalValueException(CareType.MESSAGE_CONSTRAINTS);
+                }
+                careTypes[ref] = new CareType(strings[ref]);
+            }
+            return careTypes[ref];
+        }
+
+        private SessionStatus readStatus(int ref) throws IllegalValueException {
+            if (statuses[ref] == null) {
+                if (!SessionStatus.isValidSessionStatus(strings[ref])) {
+                    throw new IllegalValueException(SessionStatus.MESSAGE_CONSTRAINTS);
+                }
+                statuses[ref] = SessionStatus.fromString(strings[ref]);
+            }
+            return statuses[ref];
+        }
+
+        private static String readString(ByteBuffer record) {
+            int length = record.getInt();
+            if (length < 0 || length > record.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String string = new String(record.array(), record.position(), length, StandardCharsets.UTF_8);
+            record.position(record.position() + length);
+            return string;
+        }
+    }
+}
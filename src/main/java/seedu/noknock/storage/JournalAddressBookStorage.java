@@ -0,0 +1,378 @@
+package seedu.noknock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.core.PersistentList;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.exceptions.IllegalValueException;
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.commons.util.JsonUtil;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.exceptions.DuplicateIcException;
+import seedu.noknock.model.person.exceptions.DuplicatePatientException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * Each save appends only the patients that were added, edited or removed since the previous save, and the
+ * journal is compacted into the json snapshot once it grows past a threshold or when it is flushed.
+ * Each snapshot is saved with a random id, and the journal starts with the id of the snapshot it applies to, so a
+ * journal left behind by a compaction that was interrupted is recognised as stale and ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private static final String JOURNAL_HEADER_PREFIX = "#snapshot ";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Patients as of the last save or load, or null if the files on disk are not known to match any state. */
+    private List<Patient> savedPatients;
+    /** Id of the snapshot that the journal applies to. */
+    private long snapshotId = JsonAddressBookStorage.NO_SNAPSHOT_ID;
+    private int journalEntryCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts after {@code compactionThreshold} journal entries.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.journalFilePath = getJournalFilePath(filePath);
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it, unless the journal applies to
+     * an earlier snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() && !FileUtil.isFileExists(journalPath)) {
+            return Optional.empty();
+        }
+
+        List<Patient> patients = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> patients.addAll(addressBook.getPatientList()));
+        long readSnapshotId = JsonAddressBookStorage.readSnapshotId(filePath);
+        List<JsonAdaptedJournalEntry> entries = readJournal(journalPath, readSnapshotId);
+        try {
+            replay(patients, entries);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPatients(patients);
+        } catch (DuplicatePatientException | DuplicateIcException e) {
+            logger.info("Illegal values found in " + journalPath + ": " + e.getMessage());
+            throw new DataLoadingException(new IllegalValueException(e.getMessage()));
+        }
+        if (filePath.equals(this.filePath)) {
+            savedPatients = patients;
+            snapshotId = readSnapshotId;
+            journalEntryCount = entries.size();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any location other than this storage's own file are written as a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // shared rather than copied if the address book keeps its patients in a PersistentList
+        List<Patient> patients = PersistentList.copyOf(addressBook.getPatientList());
+        Optional<List<JsonAdaptedJournalEntry>> changes = savedPatients == null
+                ? Optional.empty()
+                : diff(savedPatients, patients);
+        if (!changes.isPresent() || journalEntryCount + changes.get().size() > compactionThreshold) {
+            compact(patients);
+            return;
+        }
+
+        appendToJournal(changes.get());
+        savedPatients = patients;
+    }
+
+    /**
+     * Compacts any journalled changes into the json snapshot.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (savedPatients != null && journalEntryCount > 0) {
+            compact(savedPatients);
+        }
+    }
+
+    /**
+     * Writes {@code patients} as the new snapshot, with a new id, and discards the journal it supersedes.
+     * The snapshot may include changes that were never journalled, so the journal must not be replayed onto it.
+     * A crash between the two steps is harmless, as the journal left behind is for the previous snapshot id.
+     */
+    private void compact(List<Patient> patients) throws IOException {
+        logger.fine("Compacting journal into data file: " + filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPatients(patients);
+        long newSnapshotId = newSnapshotId();
+        snapshotStorage.saveAddressBook(addressBook, filePath, newSnapshotId);
+        snapshotId = newSnapshotId;
+        savedPatients = patients;
+        journalEntryCount = 0;
+        Files.deleteIfExists(journalFilePath);
+    }
+
+    private static long newSnapshotId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == JsonAddressBookStorage.NO_SNAPSHOT_ID);
+        return id;
+    }
+
+    /**
+     * Writes {@code entries} to the journal and syncs them to disk.
+     * The first entries after a compaction or a stale journal start a new journal, headed by the snapshot id.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        boolean isNewJournal = journalEntryCount == 0;
+        if (isNewJournal) {
+            lines.append(JOURNAL_HEADER_PREFIX).append(snapshotId).append(System.lineSeparator());
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toSingleLineJsonString(entry)).append(System.lineSeparator());
+        }
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                isNewJournal ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalEntryCount += entries.size();
+    }
+
+    /**
+     * Returns the journal entries that turn {@code saved} into {@code current}, or {@code Optional.empty()} if
+     * patients kept from {@code saved} were reordered, which the journal cannot express.
+     * Patients are immutable, so a patient that is still the same instance is known to be unchanged.
+     */
+    private static Optional<List<JsonAdaptedJournalEntry>> diff(List<Patient> saved, List<Patient> current) {
+        Map<Name, Integer> savedPositions = new HashMap<>();
+        int savedPosition = 0;
+        for (Patient patient : saved) {
+            savedPositions.put(patient.getName(), savedPosition++);
+        }
+        Set<Name> currentNames = new HashSet<>();
+        for (Patient patient : current) {
+            currentNames.add(patient.getName());
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (Patient patient : saved) {
+            if (!currentNames.contains(patient.getName())) {
+                entries.add(JsonAdaptedJournalEntry.remove(patient.getName()));
+            }
+        }
+
+        int lastKeptPosition = -1;
+        int position = 0;
+        for (Patient patient : current) {
+            int i = position++;
+            Integer keptPosition = savedPositions.get(patient.getName());
+            if (keptPosition == null) {
+                entries.add(JsonAdaptedJournalEntry.put(i, patient));
+                continue;
+            }
+            if (keptPosition < lastKeptPosition) {
+                return Optional.empty();
+            }
+            lastKeptPosition = keptPosition;
+            if (saved.get(keptPosition) != patient) {
+                entries.add(JsonAdaptedJournalEntry.put(i, patient));
+            }
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Applies {@code entries} in order to {@code patients}.
+     * Removals of absent patients are ignored and puts of present patients replace them in place, so entries
+     * already reflected in {@code patients} have no effect.
+     */
+    private static void replay(List<Patient> patients, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException {
+        Map<Name, Integer> positions = new HashMap<>();
+        indexFrom(patients, positions, 0);
+
+        for (JsonAdaptedJournalEntry entry : entries) {
+            if (entry.isRemoval()) {
+                Integer position = positions.remove(entry.getRemovedName());
+                if (position != null) {
+                    patients.remove((int) position);
+                    indexFrom(patients, positions, position);
+                }
+                continue;
+            }
+
+            Patient patient = entry.getPutPatient();
+            Integer position = positions.get(patient.getName());
+            if (position != null) {
+                patients.set(position, patient);
+            } else {
+                int insertAt = Math.min(Math.max(entry.getIndex(), 0), patients.size());
+                patients.add(insertAt, patient);
+                indexFrom(patients, positions, insertAt);
+            }
+        }
+    }
+
+    private static void indexFrom(List<Patient> patients, Map<Name, Integer> positions, int start) {
+        for (int i = start; i < patients.size(); i++) {
+            positions.put(patients.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal at {@code journalPath}, or an empty list if there is no journal or it
+     * applies to a snapshot other than the one with id {@code snapshotId}.
+     * A journal without a header predates snapshot ids, and applies to a snapshot without one.
+     * A malformed final line is the remains of an interrupted append, and is skipped.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path journalPath, long snapshotId)
+            throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalPath)) {
+            return entries;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (lines.isEmpty()) {
+            return entries;
+        }
+        int firstEntryLine = 0;
+        long journalSnapshotId = JsonAddressBookStorage.NO_SNAPSHOT_ID;
+        if (lines.get(0).startsWith(JOURNAL_HEADER_PREFIX)) {
+            firstEntryLine = 1;
+            try {
+                journalSnapshotId = Long.parseLong(lines.get(0).substring(JOURNAL_HEADER_PREFIX.length()).strip());
+            } catch (NumberFormatException nfe) {
+                // the remains of an interrupted start of a new journal, which held no entries yet
+                logger.warning("Ignoring journal file " + journalPath + " with an incomplete header");
+                return entries;
+            }
+        }
+        if (journalSnapshotId != snapshotId) {
+            logger.warning("Ignoring journal file " + journalPath + " left behind by an interrupted compaction");
+            return entries;
+        }
+
+        for (int i = firstEntryLine; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+            } catch (IOException ioe) {
+                if (i != lines.size() - 1) {
+                    logger.warning("Malformed entry in journal file " + journalPath + ": " + ioe);
+                    throw new DataLoadingException(ioe);
+                }
+                logger.warning("Skipping incomplete last entry in journal file " + journalPath);
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.noknock.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.noknock.commons.exceptions.IllegalValueException;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * A change either puts a patient at a position in the patient list, or removes a patient by name.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is missing its %s!";
+
+    private final String operation;
+    private final int index;
+    private final String name;
+    private final JsonAdaptedPatient patient;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("index") int index,
+                                   @JsonProperty("name") String name,
+                                   @JsonProperty("patient") JsonAdaptedPatient patient) {
+        this.operation = operation;
+        this.index = index;
+        this.name = name;
+        this.patient = patient;
+    }
+
+    /**
+     * Returns an entry recording that {@code patient} is now at {@code index} of the patient list.
+     */
+    public static JsonAdaptedJournalEntry put(int index, Patient patient) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, index, null, new JsonAdaptedPatient(patient));
+    }
+
+    /**
+     * Returns an entry recording that the patient named {@code name} was removed.
+     */
+    public static JsonAdaptedJournalEntry remove(Name name) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, 0, name.fullName, null);
+    }
+
+    public boolean isRemoval() {
+        return OPERATION_REMOVE.equals(operation);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the name of the patient removed by this entry.
+     *
+     * @throws IllegalValueException if this entry does not hold a valid name.
+     */
+    public Name getRemovedName() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "name"));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    /**
+     * Converts the patient put by this entry into the model's {@code Patient} object.
+     *
+     * @throws IllegalValueException if this entry is not a valid put, or the patient violates data constraints.
+     */
+    public Patient getPutPatient() throws IllegalValueException {
+        if (!OPERATION_PUT.equals(operation)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "operation"));
+        }
+        if (patient == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "patient"));
+        }
+        return patient.toModelType();
+    }
+}
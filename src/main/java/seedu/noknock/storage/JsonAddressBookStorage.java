@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,13 +13,25 @@ import seedu.noknock.commons.exceptions.DataLoadingException;
 import seedu.noknock.commons.exceptions.IllegalValueException;
 import seedu.noknock.commons.util.FileUtil;
 import seedu.noknock.commons.util.JsonUtil;
+import seedu.noknock.model.AddressBook;
 import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.person.Patient;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Patients are streamed to and from the file one at a time, in the format of {@link JsonSerializableAddressBook}.
+ * The file is replaced atomically on every save, keeping the previous versions as rolling backups.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int BACKUP_GENERATIONS = 3;
+
+    /** Id of a file saved without one. */
+    static final long NO_SNAPSHOT_ID = 0;
+
+    private static final String PATIENTS_FIELD_NAME = "persons";
+    private static final String SNAPSHOT_ID_FIELD_NAME = "snapshotId";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -38,25 +51,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file at {@code filePath} is missing or cannot be loaded, the newest backup that can be loaded is
+     * returned instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if neither the file nor any of its backups could be loaded.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+        return BackupFallback.read(filePath, BACKUP_GENERATIONS, this::readAddressBookFile);
+    }
+
+    private ReadOnlyAddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
 
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonUtil.readJsonArrayFile(filePath, PATIENTS_FIELD_NAME, JsonAdaptedPatient.class, jsonAdaptedPatient -> {
+                Patient patient = jsonAdaptedPatient.toModelType();
+                if (addressBook.hasPatient(patient)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                if (addressBook.getPatientAttributeIndex().getPatientWithIC(patient.getIC()).isPresent()) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_IC);
+                }
+                addressBook.addPatient(patient);
+            });
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return addressBook;
     }
 
     @Override
@@ -70,11 +99,46 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, NO_SNAPSHOT_ID);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but also saves {@code snapshotId}, which
+     * identifies this particular save of the file to {@link #readSnapshotId(Path)}.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long snapshotId) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Map<String, Long> numberFields = snapshotId == NO_SNAPSHOT_ID
+                ? Map.of()
+                : Map.of(SNAPSHOT_ID_FIELD_NAME, snapshotId);
+        FileUtil.writeAtomically(filePath, BACKUP_GENERATIONS, out ->
+                JsonUtil.writeJsonArray(out, numberFields, PATIENTS_FIELD_NAME,
+                        addressBook.getPatientList().stream().map(JsonAdaptedPatient::new).iterator()));
+    }
+
+    /**
+     * Returns the id the file at {@code filePath} was saved with, or {@code NO_SNAPSHOT_ID} if it was saved without
+     * one, or is missing or unreadable.
+     */
+    static long readSnapshotId(Path filePath) {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return NO_SNAPSHOT_ID;
+        }
+
+        try {
+            return JsonUtil.readJsonNumberField(filePath, SNAPSHOT_ID_FIELD_NAME).orElse(NO_SNAPSHOT_ID);
+        } catch (IOException ioe) {
+            logger.warning("Error reading the snapshot id of " + filePath + ": " + ioe);
+            return NO_SNAPSHOT_ID;
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // every save is written through to the file, so there is nothing buffered
     }
 
 }
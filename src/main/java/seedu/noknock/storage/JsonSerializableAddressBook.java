@@ -20,6 +20,7 @@ import seedu.noknock.model.person.Patient;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_IC = "Persons list contains patients with the same IC.";
     private final List<JsonAdaptedPatient> persons = new ArrayList<>();
 
     /**
@@ -51,6 +52,9 @@ class JsonSerializableAddressBook {
             if (addressBook.hasPatient(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
+            if (addressBook.getPatientAttributeIndex().getPatientWithIC(person.getIC()).isPresent()) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_IC);
+            }
             addressBook.addPatient(person);
         }
         return addressBook;
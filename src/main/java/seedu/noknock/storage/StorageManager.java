@@ -16,9 +16,13 @@ import seedu.noknock.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    public static final String MESSAGE_DATA_FILE_NOT_LOADED = "The data file %1$s could not be loaded (%2$s), so it "
+            + "will not be overwritten. Fix or move the file and restart the app to save your changes.";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private String addressBookLoadFailure;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -61,7 +65,20 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        boolean isDataFile = filePath.equals(getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+            if (isDataFile) {
+                addressBookLoadFailure = null;
+            }
+            return addressBook;
+        } catch (DataLoadingException e) {
+            if (isDataFile) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                addressBookLoadFailure = String.format(MESSAGE_DATA_FILE_NOT_LOADED, filePath, cause.getMessage());
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -72,7 +89,16 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        if (addressBookLoadFailure != null && filePath.equals(getAddressBookFilePath())) {
+            throw new IOException(addressBookLoadFailure);
+        }
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Flushing data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
 }
@@ -0,0 +1,118 @@
+package seedu.noknock.ui;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import seedu.noknock.commons.core.LogsCenter;
+
+/**
+ * Builds the nodes shared by the cards of the list panels, which are built in code rather than loaded from FXML
+ * since a card is created for every cell of a list.
+ */
+final class CardNodes {
+
+    static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+    static final String SMALL_LABEL_STYLE_CLASS = "cell_small_label";
+
+    private static final String CARD_PANE_ID = "cardPane";
+    private static final String ICON_STYLE_CLASS = "icon";
+    private static final String ICON_SIZE = "12";
+    private static final double CARD_MIN_HEIGHT = 105;
+
+    private static final Logger logger = LogsCenter.getLogger(CardNodes.class);
+    /** The types of card built so far, so that the first card of each type can be logged as a cold start. */
+    private static final Set<Class<?>> builtCardTypes = ConcurrentHashMap.newKeySet();
+
+    private CardNodes() {}
+
+    /**
+     * Returns the card built by {@code cardBuilder}, and logs how long it took to build. The first card of each type
+     * is logged as a cold start, as building it also loads the classes, glyph font and styles that the card uses.
+     */
+    static <C extends UiPart<?>> C buildCard(Supplier<C> cardBuilder) {
+        long startTime = System.nanoTime();
+        C card = cardBuilder.get();
+        long elapsedMicros = (System.nanoTime() - startTime) / 1000;
+        boolean isColdStart = builtCardTypes.add(card.getClass());
+        logger.fine("Built " + (isColdStart ? "first " : "") + card.getClass().getSimpleName() + " in "
+                + elapsedMicros + " us");
+        return card;
+    }
+
+    /**
+     * Makes {@code cardPane} the pane of a card with {@code details} laid out in a column.
+     */
+    static void layOutCard(HBox cardPane, Node... details) {
+        cardPane.setId(CARD_PANE_ID);
+
+        VBox column = new VBox(1, details);
+        column.setAlignment(Pos.CENTER_LEFT);
+        column.setMinHeight(CARD_MIN_HEIGHT);
+        column.setPadding(new Insets(5, 5, 5, 15));
+
+        ColumnConstraints columnConstraints = new ColumnConstraints();
+        columnConstraints.setHgrow(Priority.SOMETIMES);
+        columnConstraints.setMinWidth(10);
+        columnConstraints.setPrefWidth(150);
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(columnConstraints);
+        grid.add(column, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+        cardPane.getChildren().add(grid);
+    }
+
+    /**
+     * Returns a label with the given style class.
+     */
+    static Label label(String styleClass) {
+        Label label = new Label();
+        label.getStyleClass().add(styleClass);
+        return label;
+    }
+
+    /**
+     * Returns an icon of the size used in cards, showing {@code glyph}.
+     */
+    static FontAwesomeIconView icon(FontAwesomeIcon glyph) {
+        FontAwesomeIconView icon = new FontAwesomeIconView(glyph);
+        icon.setSize(ICON_SIZE);
+        icon.getStyleClass().add(ICON_STYLE_CLASS);
+        return icon;
+    }
+
+    /**
+     * Returns a row with {@code icon} in front of {@code label}.
+     */
+    static HBox iconRow(FontAwesomeIconView icon, Label label) {
+        HBox row = new HBox(5, icon, label);
+        row.setAlignment(Pos.CENTER_LEFT);
+        return row;
+    }
+
+    /**
+     * Returns a section of a card with {@code title} and {@code glyph} as its heading above {@code content}.
+     */
+    static VBox section(FontAwesomeIcon glyph, String title, Node content) {
+        Label heading = label(SMALL_LABEL_STYLE_CLASS);
+        heading.setText(title);
+        heading.setStyle("-fx-font-weight: bold;");
+
+        VBox section = new VBox(3, iconRow(icon(glyph), heading), content);
+        section.getStyleClass().add(SMALL_LABEL_STYLE_CLASS);
+        section.setPadding(new Insets(5, 0, 2, 0));
+        return section;
+    }
+}
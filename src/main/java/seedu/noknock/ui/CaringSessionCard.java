@@ -1,48 +1,68 @@
 package seedu.noknock.ui;
 
+import static seedu.noknock.ui.CardNodes.BIG_LABEL_STYLE_CLASS;
+import static seedu.noknock.ui.CardNodes.SMALL_LABEL_STYLE_CLASS;
+import static seedu.noknock.ui.CardNodes.icon;
+import static seedu.noknock.ui.CardNodes.iconRow;
+import static seedu.noknock.ui.CardNodes.label;
+
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
-import javafx.fxml.FXML;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * A UI component that displays information of a {@code PatientCaringSession}.
+ * The card is built in code, as a card is created for each visible cell of the session list.
  */
-public class CaringSessionCard extends UiPart<Region> {
+public class CaringSessionCard extends UiPart<HBox> {
 
-    private static final String FXML = "CaringSessionListCard.fxml";
+    private static final String STATUS_COMPLETE_STYLE_CLASS = "status-complete";
+    private static final String STATUS_INCOMPLETE_STYLE_CLASS = "status-incomplete";
 
-    public final PatientCaringSession session;
+    private PatientCaringSession session;
 
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label id;
-    @FXML
-    private Label careType;
-    @FXML
-    private Label patientName;
-    @FXML
-    private Label date;
-    @FXML
-    private Label time;
-    @FXML
-    private FontAwesomeIconView statusIcon;
-    @FXML
-    private Label statusMessage;
-    @FXML
-    private Label notes;
-    @FXML
-    private VBox notesContainer;
+    private final Label id = label(BIG_LABEL_STYLE_CLASS);
+    private final Label careType = label(BIG_LABEL_STYLE_CLASS);
+    private final Label patientName = label(SMALL_LABEL_STYLE_CLASS);
+    private final Label date = label(SMALL_LABEL_STYLE_CLASS);
+    private final Label time = label(SMALL_LABEL_STYLE_CLASS);
+    private final FontAwesomeIconView statusIcon = icon(FontAwesomeIcon.CHECK_CIRCLE);
+    private final Label statusMessage = label(SMALL_LABEL_STYLE_CLASS);
+    private final Label notes = label(SMALL_LABEL_STYLE_CLASS);
+    private final VBox notesContainer = new VBox(2);
 
     /**
      * Creates a {@code CaringSessionListCard} with the given {@code PatientCaringSession} and index to display.
      */
     public CaringSessionCard(PatientCaringSession session, int displayedIndex) {
-        super(FXML);
+        super(new HBox(10));
+        getRoot().setAlignment(Pos.CENTER_LEFT);
+        HBox header = new HBox(0.5, id, careType);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        notes.setWrapText(true);
+        notesContainer.getStyleClass().add(SMALL_LABEL_STYLE_CLASS);
+        notesContainer.getChildren().add(iconRow(icon(FontAwesomeIcon.STICKY_NOTE), notes));
+
+        CardNodes.layOutCard(getRoot(), header, iconRow(icon(FontAwesomeIcon.USER), patientName),
+                iconRow(icon(FontAwesomeIcon.CALENDAR), date), iconRow(icon(FontAwesomeIcon.CLOCK_ALT), time),
+                iconRow(statusIcon, statusMessage), notesContainer);
+        setSession(session, displayedIndex);
+    }
+
+    public PatientCaringSession getSession() {
+        return session;
+    }
+
+    /**
+     * Displays {@code session} in this card in place of the session it currently shows,
+     * so that a list cell can reuse its card instead of loading a new one.
+     */
+    public void setSession(PatientCaringSession session, int displayedIndex) {
         this.session = session;
 
         id.setText(displayedIndex + ". ");
@@ -53,23 +73,21 @@ public class CaringSessionCard extends UiPart<Region> {
         time.setText(session.getCaringSession().getTime().toString());
 
         // Status field
+        statusIcon.getStyleClass().removeAll(STATUS_COMPLETE_STYLE_CLASS, STATUS_INCOMPLETE_STYLE_CLASS);
         if (session.getCaringSession().isComplete()) {
             statusIcon.setGlyphName("CHECK_CIRCLE");
-            statusIcon.getStyleClass().add("status-complete");
+            statusIcon.getStyleClass().add(STATUS_COMPLETE_STYLE_CLASS);
             statusMessage.setText("Complete");
         } else {
             statusIcon.setGlyphName("TIMES_CIRCLE");
-            statusIcon.getStyleClass().add("status-incomplete");
+            statusIcon.getStyleClass().add(STATUS_INCOMPLETE_STYLE_CLASS);
             statusMessage.setText("Incomplete");
         }
 
         // Handle notes
         String noteText = session.getCaringSession().getNote().value;
-        if (noteText.isEmpty()) {
-            notesContainer.setVisible(false);
-            notesContainer.setManaged(false);
-        } else {
-            notes.setText(noteText);
-        }
+        notesContainer.setVisible(!noteText.isEmpty());
+        notesContainer.setManaged(!noteText.isEmpty());
+        notes.setText(noteText);
     }
 }
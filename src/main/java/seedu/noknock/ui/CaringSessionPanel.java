@@ -1,12 +1,20 @@
 package seedu.noknock.ui;
 
+import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -19,17 +27,29 @@ import javafx.scene.layout.Region;
 import seedu.noknock.commons.core.LogsCenter;
 import seedu.noknock.model.date.Date;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSessionCalendar;
 import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * Panel containing the flattened list of caring sessions from all patients,
  * grouped by date with a date header row.
+ * Changes to the patient list only rebuild the rows of the dates on which the changed patients have sessions.
  */
 public class CaringSessionPanel extends UiPart<Region> {
     private static final String FXML = "CaringSessionPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(CaringSessionPanel.class);
 
     private final ObservableList<Object> flattenedItems = FXCollections.observableArrayList();
+    private final CaringSessionCalendar calendar = new CaringSessionCalendar();
+    /** The group of rows currently shown for each date. */
+    private final NavigableMap<LocalDate, DateGroup> displayedGroups = new TreeMap<>();
+    /**
+     * The cells created since the list view last recreated its cells. The set holds them weakly, so the cells that
+     * the list view discards on its own, such as when it is resized, are not kept alive with their cards.
+     */
+    private final Set<GroupedCaringSessionCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
+    /** Cards taken from cells that the list view has discarded, to be reused by the cells that replace them. */
+    private final Deque<CaringSessionCard> spareCards = new ArrayDeque<>();
 
     @FXML
     private ListView<Object> sessionListView;
@@ -40,54 +60,174 @@ public class CaringSessionPanel extends UiPart<Region> {
     public CaringSessionPanel(ObservableList<Patient> patientList) {
         super(FXML);
         sessionListView.setItems(flattenedItems);
-        sessionListView.setCellFactory(listView -> new GroupedCaringSessionCell());
+        sessionListView.setCellFactory(listView -> {
+            GroupedCaringSessionCell cell = new GroupedCaringSessionCell();
+            cells.add(cell);
+            return cell;
+        });
+
+        patientList.forEach(calendar::addSessionsOf);
+        refreshDates(new TreeSet<>(calendar.getDates()));
 
-        rebuildFromPatients(patientList);
+        patientList.addListener((ListChangeListener<Patient>) this::applyChange);
+    }
 
-        patientList.addListener((ListChangeListener<Patient>) change ->
-            rebuildFromPatients(patientList)
-        );
+    /**
+     * Updates the sessions of the patients that were removed, added or replaced in {@code change}.
+     */
+    private void applyChange(ListChangeListener.Change<? extends Patient> change) {
+        NavigableSet<LocalDate> changedDates = new TreeSet<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // sessions are ordered by date and time, not by the order of their patients
+                continue;
+            }
+            for (Patient removed : change.getRemoved()) {
+                changedDates.addAll(calendar.removeSessionsOf(removed));
+            }
+            for (Patient added : change.getAddedSubList()) {
+                changedDates.addAll(calendar.addSessionsOf(added));
+            }
+        }
+        logger.fine("Refreshing sessions on " + changedDates.size() + " dates");
+        refreshDates(changedDates);
     }
 
     /**
-     * Rebuilds the flattened, grouped list.
+     * Replaces the rows of each of {@code dates} with a date header followed by the sessions now on that date,
+     * or with no rows if there are no longer any sessions on that date.
      */
-    private void rebuildFromPatients(ObservableList<Patient> patientList) {
-        // Collect and sort all sessions in ascending order (least recent first)
-        List<PatientCaringSession> sorted = patientList.stream()
-            .flatMap(p -> p.getCaringSessionList().stream().map(s -> new PatientCaringSession(p, s)))
-            .sorted(Comparator.comparing((PatientCaringSession pcs) -> pcs.getCaringSession().getDate().value)
-                .thenComparing(pcs -> pcs.getCaringSession().getTime().value))
-            .toList();
-
-        // Group by date preserving order
-        Map<Date, List<PatientCaringSession>> groupedMap = sorted.stream()
-            .collect(Collectors.groupingBy(
-                pcs -> pcs.getCaringSession().getDate(),
-                LinkedHashMap::new,
-                Collectors.toList()
-            ));
-
-        // Build flattened list with date headers
-        List<Object> grouped = new ArrayList<>();
-        for (Map.Entry<Date, List<PatientCaringSession>> entry : groupedMap.entrySet()) {
-            grouped.add(new DateHeader(entry.getKey()));
-            grouped.addAll(entry.getValue());
+    private void refreshDates(NavigableSet<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+
+        int firstRow = 0;
+        LocalDate previousDate = null;
+        for (LocalDate date : dates) {
+            Map<LocalDate, DateGroup> skippedGroups = previousDate == null
+                ? displayedGroups.headMap(date, false)
+                : displayedGroups.subMap(previousDate, true, date, false);
+            for (DateGroup skippedGroup : skippedGroups.values()) {
+                firstRow += skippedGroup.getRowCount();
+            }
+
+            DateGroup oldGroup = displayedGroups.remove(date);
+            if (oldGroup != null) {
+                flattenedItems.remove(firstRow, firstRow + oldGroup.getRowCount());
+            }
+            List<PatientCaringSession> sessions = calendar.getSessionsOn(date);
+            if (!sessions.isEmpty()) {
+                DateGroup group = new DateGroup(new Date(date), sessions.size());
+                List<Object> rows = new ArrayList<>(group.getRowCount());
+                rows.add(new DateHeader(group));
+                for (int i = 0; i < sessions.size(); i++) {
+                    rows.add(new SessionRow(sessions.get(i), group, i));
+                }
+                flattenedItems.addAll(firstRow, rows);
+                displayedGroups.put(date, group);
+            }
+            previousDate = date;
         }
 
-        flattenedItems.setAll(grouped);
+        if (updateSessionsBefore(dates.first())) {
+            // rows after the changed dates were kept, but their display numbers have shifted
+            refreshCells();
+        }
     }
 
     /**
-     * Simple header object used to render date rows.
+     * Redraws every visible row. The list view discards all of its cells to do so, so their cards are moved to
+     * {@code spareCards} first rather than being created again by the new cells. Spare cards left over from an
+     * earlier refresh are dropped, so there are never more spare cards than there were cells.
      */
-    private record DateHeader(Date date) {
+    private void refreshCells() {
+        spareCards.clear();
+        for (GroupedCaringSessionCell cell : cells) {
+            cell.releaseCard().ifPresent(spareCards::push);
+        }
+        cells.clear();
+        sessionListView.refresh();
     }
 
     /**
-     * Custom ListCell that renders DateHeader or PatientCaringSession.
+     * Updates the number of sessions before each group from {@code fromDate} onwards.
+     *
+     * @return True if a group whose rows were kept now has a different number of sessions before it.
      */
-    static class GroupedCaringSessionCell extends ListCell<Object> {
+    private boolean updateSessionsBefore(LocalDate fromDate) {
+        int sessionsBefore = calendar.size();
+        for (DateGroup group : displayedGroups.tailMap(fromDate, true).values()) {
+            sessionsBefore -= group.sessionCount;
+        }
+
+        boolean hasShifted = false;
+        for (DateGroup group : displayedGroups.tailMap(fromDate, true).values()) {
+            if (group.isDisplayed && group.sessionsBefore != sessionsBefore) {
+                hasShifted = true;
+            }
+            group.sessionsBefore = sessionsBefore;
+            group.isDisplayed = true;
+            sessionsBefore += group.sessionCount;
+        }
+        return hasShifted;
+    }
+
+    /**
+     * The rows shown for the sessions on one date.
+     * The number of sessions on earlier dates is kept up to date as other dates change, so that the display number
+     * of each session can be found without counting the rows before it.
+     */
+    private static class DateGroup {
+        private final Date date;
+        private final int sessionCount;
+        private int sessionsBefore;
+        private boolean isDisplayed;
+
+        DateGroup(Date date, int sessionCount) {
+            this.date = date;
+            this.sessionCount = sessionCount;
+        }
+
+        int getRowCount() {
+            return sessionCount + 1;
+        }
+    }
+
+    /**
+     * Row that renders the header of a date group.
+     */
+    private record DateHeader(DateGroup group) {
+    }
+
+    /**
+     * Row that renders the session at {@code positionInGroup} within its date group.
+     */
+    private record SessionRow(PatientCaringSession session, DateGroup group, int positionInGroup) {
+        int getDisplayIndex() {
+            return group.sessionsBefore + positionInGroup + 1;
+        }
+    }
+
+    /**
+     * Custom ListCell that renders DateHeader or SessionRow.
+     * The header label and session card are each created the first time they are needed and reused after that,
+     * so a cell that alternates between headers and sessions while scrolling loads its card only once.
+     */
+    class GroupedCaringSessionCell extends ListCell<Object> {
+        private Label headerLabel;
+        private CaringSessionCard card;
+
+        /**
+         * Removes the session card from this cell, which must no longer be used.
+         */
+        Optional<CaringSessionCard> releaseCard() {
+            Optional<CaringSessionCard> released = Optional.ofNullable(card);
+            card = null;
+            setGraphic(null);
+            return released;
+        }
+
         @Override
         protected void updateItem(Object item, boolean empty) {
             super.updateItem(item, empty);
@@ -99,17 +239,23 @@ public class CaringSessionPanel extends UiPart<Region> {
             }
 
             if (item instanceof DateHeader header) {
-                Label label = new Label(header.date.printPretty());
-                label.getStyleClass().add("session-date-header");
-                setGraphic(label);
+                if (headerLabel == null) {
+                    headerLabel = new Label();
+                    headerLabel.getStyleClass().add("session-date-header");
+                }
+                headerLabel.setText(header.group().date.printPretty());
+                setGraphic(headerLabel);
                 setText(null);
-            } else if (item instanceof PatientCaringSession pcs) {
-                int idx = (int) getListView().getItems().subList(0, getIndex()).stream()
-                    .filter(o -> o instanceof PatientCaringSession)
-                    .count();
-                int displayIndex = idx + 1;
-
-                setGraphic(new CaringSessionCard(pcs, displayIndex).getRoot());
+            } else if (item instanceof SessionRow row) {
+                if (card == null) {
+                    card = spareCards.poll();
+                }
+                if (card == null) {
+                    card = CardNodes.buildCard(() -> new CaringSessionCard(row.session(), row.getDisplayIndex()));
+                } else {
+                    card.setSession(row.session(), row.getDisplayIndex());
+                }
+                setGraphic(card.getRoot());
                 setText(null);
             } else {
                 setText(item.toString());
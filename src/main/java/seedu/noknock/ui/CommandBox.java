@@ -1,10 +1,16 @@
 package seedu.noknock.ui;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.noknock.logic.commands.CommandResult;
+import seedu.noknock.logic.commands.FindPatientCommand;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 
@@ -15,20 +21,52 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    /** Time to wait after the last key stroke before searching, so that a burst of typing searches only once. */
+    private static final Duration LIVE_SEARCH_DELAY = Duration.millis(200);
+    /**
+     * Commands previewed while they are typed. The preview matches name words by prefix, as {@code find-patient}
+     * does, while the other find commands only match whole words and would list different patients from it.
+     */
+    private static final Pattern LIVE_SEARCH_FORMAT =
+            Pattern.compile(Pattern.quote(FindPatientCommand.COMMAND_WORD) + "\\s+(?<query>\\S.*)");
 
     private final CommandExecutor commandExecutor;
+    private final LiveSearcher liveSearcher;
+    private final PauseTransition liveSearchDelay = new PauseTransition(LIVE_SEARCH_DELAY);
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code LiveSearcher}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, LiveSearcher liveSearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveSearcher = liveSearcher;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            scheduleLiveSearch(newText);
+        });
+    }
+
+    /**
+     * Searches for the keywords of {@code commandText} once typing pauses, if it is a find-patient command with
+     * keywords.
+     * Otherwise, drops any search that was scheduled or started for an earlier text.
+     */
+    private void scheduleLiveSearch(String commandText) {
+        Matcher matcher = LIVE_SEARCH_FORMAT.matcher(commandText.trim());
+        if (!matcher.matches()) {
+            liveSearchDelay.stop();
+            liveSearcher.cancel();
+            return;
+        }
+
+        String query = matcher.group("query");
+        liveSearchDelay.setOnFinished(unused -> liveSearcher.search(query));
+        liveSearchDelay.playFromStart();
     }
 
     /**
@@ -36,6 +74,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        liveSearchDelay.stop();
         String commandText = commandTextField.getText();
         if (commandText.equals("")) {
             return;
@@ -82,4 +121,23 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents something that searches for patients while a find-patient command is being typed.
+     */
+    public interface LiveSearcher {
+        /**
+         * Starts searching for the patients matching {@code query}, without blocking.
+         *
+         * @see seedu.noknock.logic.Logic#searchPatientsAsYouType(String)
+         */
+        void search(String query);
+
+        /**
+         * Cancels the last search, whose results are no longer wanted.
+         *
+         * @see seedu.noknock.logic.Logic#cancelPatientSearch()
+         */
+        void cancel();
+    }
+
 }
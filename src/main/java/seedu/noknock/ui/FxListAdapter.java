@@ -0,0 +1,53 @@
+package seedu.noknock.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.noknock.commons.core.ListChange;
+
+/**
+ * An {@code ObservableList} that mirrors a list of the model for the UI to show.
+ * The mirror starts empty and is filled by the changes published to it, so it should be added as a listener of the
+ * model, which then publishes the model's current list as its first change. The model may be changed on a thread
+ * other than the JavaFX application thread; its changes are queued and applied to the mirror on that thread, in the
+ * order they were made, so that listeners of the mirror are only ever called on the JavaFX application thread.
+ */
+public class FxListAdapter<T> {
+
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+    private final Queue<ListChange<T>> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Returns the mirror of the model's list, which must only be used on the JavaFX application thread.
+     */
+    public ObservableList<T> getItems() {
+        return unmodifiableItems;
+    }
+
+    /**
+     * Applies {@code change} to the mirror, immediately if called on the JavaFX application thread with no earlier
+     * changes still queued, or else on that thread together with any other changes queued before it runs.
+     */
+    public void publish(ListChange<T> change) {
+        requireNonNull(change);
+        if (Platform.isFxApplicationThread() && pendingChanges.isEmpty()) {
+            change.applyTo(items);
+            return;
+        }
+        pendingChanges.add(change);
+        Platform.runLater(this::applyPendingChanges);
+    }
+
+    private void applyPendingChanges() {
+        ListChange<T> change;
+        while ((change = pendingChanges.poll()) != null) {
+            change.applyTo(items);
+        }
+    }
+}
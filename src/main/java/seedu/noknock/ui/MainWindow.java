@@ -1,7 +1,10 @@
 package seedu.noknock.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,9 +16,11 @@ import javafx.stage.Stage;
 import seedu.noknock.commons.core.GuiSettings;
 import seedu.noknock.commons.core.LogsCenter;
 import seedu.noknock.logic.Logic;
+import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.CommandResult;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.person.Patient;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -35,6 +40,8 @@ public class MainWindow extends UiPart<Stage> {
     private CaringSessionPanel caringSessionPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    /** The live search whose results are still wanted, or null if there is none. Only used on the FX thread. */
+    private CompletableFuture<List<Patient>> liveSearch;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -114,10 +121,13 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        patientPanel = new PatientPanel(logic.getFilteredPersonList());
+        FxListAdapter<Patient> shownPatients = new FxListAdapter<>();
+        logic.addFilteredPersonListListener(shownPatients::publish);
+
+        patientPanel = new PatientPanel(shownPatients.getItems());
         patientListPanelPlaceholder.getChildren().add(patientPanel.getRoot());
 
-        caringSessionPanel = new CaringSessionPanel(logic.getFilteredPersonList());
+        caringSessionPanel = new CaringSessionPanel(shownPatients.getItems());
         caringSessionListPanelPlaceholder.getChildren().add(caringSessionPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -126,7 +136,17 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, new CommandBox.LiveSearcher() {
+            @Override
+            public void search(String query) {
+                searchAsYouType(query);
+            }
+
+            @Override
+            public void cancel() {
+                cancelLiveSearch();
+            }
+        });
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -174,12 +194,42 @@ public class MainWindow extends UiPart<Stage> {
         return patientPanel;
     }
 
+    /**
+     * Starts a live search for {@code query}, and lists its results when it finishes unless another live search
+     * or a command has started since.
+     *
+     * @see seedu.noknock.logic.Logic#searchPatientsAsYouType(String)
+     */
+    private void searchAsYouType(String query) {
+        CompletableFuture<List<Patient>> search = logic.searchPatientsAsYouType(query);
+        liveSearch = search;
+        search.thenAccept(patients -> Platform.runLater(() -> {
+            if (search != liveSearch) {
+                return;
+            }
+            logic.showPatients(patients);
+            resultDisplay.setFeedbackToUser(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, patients.size()));
+        }));
+    }
+
+    /**
+     * Drops the live search in progress, if any, so that its results are not shown.
+     */
+    private void cancelLiveSearch() {
+        if (liveSearch == null) {
+            return;
+        }
+        liveSearch = null;
+        logic.cancelPatientSearch();
+    }
+
     /**
      * Executes the command and returns the result.
      *
      * @see seedu.noknock.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        liveSearch = null;
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
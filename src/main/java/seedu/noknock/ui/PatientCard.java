@@ -1,8 +1,22 @@
 package seedu.noknock.ui;
 
-import javafx.fxml.FXML;
+import static seedu.noknock.ui.CardNodes.BIG_LABEL_STYLE_CLASS;
+import static seedu.noknock.ui.CardNodes.SMALL_LABEL_STYLE_CLASS;
+import static seedu.noknock.ui.CardNodes.icon;
+import static seedu.noknock.ui.CardNodes.iconRow;
+import static seedu.noknock.ui.CardNodes.label;
+import static seedu.noknock.ui.CardNodes.section;
+
+import java.util.List;
+
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import javafx.beans.binding.Bindings;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -15,106 +29,158 @@ import seedu.noknock.model.session.Note;
 
 /**
  * A UI component that displays information of a {@code Patient}.
+ * The card is built in code, as a card is created for each visible cell of the patient list.
+ * Sessions are shown in a nested list, so only the sessions scrolled into view have nodes built for them.
  */
-public class PatientCard extends UiPart<Region> {
-
-    private static final String FXML = "PatientListCard.fxml";
-
-    public final Person person;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label phone;
-    @FXML
-    private Label ic;
-    @FXML
-    private Label ward;
-    @FXML
-    private VBox nextOfKins;
-    @FXML
-    private FlowPane tags;
-    @FXML
-    private VBox sessions;
+public class PatientCard extends UiPart<HBox> {
+
+    /** Number of sessions the session list is sized to show before it scrolls. */
+    private static final int MAX_VISIBLE_SESSIONS = 8;
+    /** Height of each session row, which holds a single line of text that does not wrap. */
+    private static final double SESSION_ROW_HEIGHT = 24;
+    /** Height of the session list's border around its rows. */
+    private static final double SESSION_LIST_BORDER_HEIGHT = 2;
+
+    private Person person;
+
+    private final Label name = label(BIG_LABEL_STYLE_CLASS);
+    private final Label id = label(BIG_LABEL_STYLE_CLASS);
+    private final Label ic = label(SMALL_LABEL_STYLE_CLASS);
+    private final Label ward = label(SMALL_LABEL_STYLE_CLASS);
+    private final VBox nextOfKins = new VBox(2);
+    private final FlowPane tags = new FlowPane();
+    private final ListView<CaringSession> sessions = new ListView<>();
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person}, index to display,
      * and a flag indicating whether sessions should be shown.
      */
     public PatientCard(Person person, int displayedIndex, boolean showSessions) {
-        super(FXML);
+        super(new HBox());
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        HBox header = new HBox(0.5, id, name);
+        header.setAlignment(Pos.CENTER_LEFT);
+        tags.setId("tags");
+
+        nextOfKins.getStyleClass().add(SMALL_LABEL_STYLE_CLASS);
+        nextOfKins.setPadding(new Insets(0, 0, 0, 10));
+        VBox nextOfKinSection = section(FontAwesomeIcon.USERS, "Next of Kin:", nextOfKins);
+
+        sessions.setFocusTraversable(false);
+        sessions.getStyleClass().addAll(SMALL_LABEL_STYLE_CLASS, "session-list");
+        VBox.setMargin(sessions, new Insets(0, 0, 0, 10));
+        // every row is one line, so the list can size itself exactly from the number of rows
+        sessions.setFixedCellSize(SESSION_ROW_HEIGHT);
+        sessions.setCellFactory(listView -> new SessionListCell());
+        VBox sessionSection = section(FontAwesomeIcon.CALENDAR, "Sessions:", sessions);
+
+        CardNodes.layOutCard(getRoot(), header, tags, iconRow(icon(FontAwesomeIcon.HOSPITAL_ALT), ward),
+                iconRow(icon(FontAwesomeIcon.ID_CARD), ic), nextOfKinSection, sessionSection);
+        setPerson(person, displayedIndex, showSessions);
+
+        // Hide Next of Kin section if empty
+        nextOfKinSection.visibleProperty().bind(Bindings.isNotEmpty(nextOfKins.getChildren()));
+        nextOfKinSection.managedProperty().bind(nextOfKinSection.visibleProperty());
+
+        // Hide Sessions section if empty (sessions will be empty when showSessions == false)
+        sessionSection.visibleProperty().bind(Bindings.isNotEmpty(sessions.getItems()));
+        sessionSection.managedProperty().bind(sessionSection.visibleProperty());
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} in this card in place of the person it currently shows,
+     * so that a list cell can reuse its card instead of loading a new one.
+     */
+    public void setPerson(Person person, int displayedIndex, boolean showSessions) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
-        if (person instanceof Patient patient) {
-            ic.setText(patient.getIC().toString());
-            ward.setText(patient.getWard().toString());
-            patient.getTags()
-                .forEach(tag -> tags.getChildren().add(new Label(tag.toString())));
-
-            // Display NOKs as numbered list
-            int nokIndex = 1;
-            for (NextOfKin nok : patient.getNextOfKinList()) {
-                Label nokLabel = new Label(String.format("%d. %s (%s) - %s",
-                    nokIndex++,
-                    nok.getName().fullName,
-                    nok.getRelationship().toString(),
-                    nok.getPhone().toString()));
-                nokLabel.setWrapText(true);
-                nextOfKins.getChildren().add(nokLabel);
-            }
+        tags.getChildren().clear();
+        nextOfKins.getChildren().clear();
+        sessions.getItems().clear();
+        if (!(person instanceof Patient patient)) {
+            ic.setText("");
+            ward.setText("");
+            return;
+        }
 
-            // Only build and display sessions when allowed (e.g., list size == 1)
-            if (showSessions) {
-                int sessionIndex = 1;
-                for (CaringSession session : patient.getCaringSessionList()) {
-                    Note note = session.getNote();
-                    HBox sessionContainer = new HBox(0.5);
-                    sessionContainer.setAlignment(Pos.TOP_LEFT);
-
-                    // Status indicator
-                    Label statusBadge = new Label(session.isComplete() ? "✓" : "✗");
-                    statusBadge.setMinWidth(20);
-
-                    // Session text
-                    VBox sessionContent = new VBox(2);
-                    String mainText = String.format("%d. %s - %s at %s",
-                        sessionIndex++,
-                        session.getCareType(),
-                        session.getDate().printPretty(),
-                        session.getTime());
-
-                    Label mainLabel = new Label(mainText);
-                    mainLabel.setWrapText(true);
-                    sessionContent.getChildren().add(mainLabel);
-
-                    if (!note.value.isEmpty()) {
-                        Label noteLabel = new Label("   Notes: " + note);
-                        noteLabel.setWrapText(true);
-                        noteLabel.getStyleClass().addAll("cell_small_label", "session-note");
-                        sessionContent.getChildren().add(noteLabel);
-                    }
-
-                    sessionContainer.getChildren().addAll(statusBadge, sessionContent);
-                    sessions.getChildren().add(sessionContainer);
-                }
-            }
+        ic.setText(patient.getIC().toString());
+        ward.setText(patient.getWard().toString());
+        patient.getTags()
+            .forEach(tag -> tags.getChildren().add(new Label(tag.toString())));
+
+        // Display NOKs as numbered list
+        int nokIndex = 1;
+        for (NextOfKin nok : patient.getNextOfKinList()) {
+            Label nokLabel = new Label(String.format("%d. %s (%s) - %s",
+                nokIndex++,
+                nok.getName().fullName,
+                nok.getRelationship().toString(),
+                nok.getPhone().toString()));
+            nokLabel.setWrapText(true);
+            nextOfKins.getChildren().add(nokLabel);
         }
 
-        // Hide Next of Kin section if empty
-        nextOfKins.getParent().visibleProperty().bind(
-            javafx.beans.binding.Bindings.isNotEmpty(nextOfKins.getChildren())
-        );
-        nextOfKins.getParent().managedProperty().bind(nextOfKins.getParent().visibleProperty());
+        // Only display sessions when allowed (e.g., list size == 1)
+        if (showSessions) {
+            List<CaringSession> sessionList = patient.getCaringSessionList();
+            sessions.getItems().setAll(sessionList);
+            sessions.setPrefHeight(Math.min(sessionList.size(), MAX_VISIBLE_SESSIONS) * sessions.getFixedCellSize()
+                    + SESSION_LIST_BORDER_HEIGHT);
+        }
+    }
 
-        // Hide Sessions section if empty (sessions will be empty when showSessions == false)
-        sessions.getParent().visibleProperty().bind(
-            javafx.beans.binding.Bindings.isNotEmpty(sessions.getChildren())
-        );
-        sessions.getParent().managedProperty().bind(sessions.getParent().visibleProperty());
+    /**
+     * Custom {@code ListCell} that displays one caring session of the patient, reusing its nodes for every session.
+     * The session is shown on a single line to fit the list's fixed row height. Text that does not fit is cut short,
+     * and the whole of it is shown in the row's tooltip.
+     */
+    private static class SessionListCell extends ListCell<CaringSession> {
+        private final Label statusBadge = new Label();
+        private final Label mainLabel = new Label();
+        private final Label noteLabel = new Label();
+        private final HBox sessionContainer = new HBox(6, statusBadge, mainLabel, noteLabel);
+        private final Tooltip tooltip = new Tooltip();
+
+        SessionListCell() {
+            setPrefWidth(0); // lets the labels be cut short at the width of the list instead of widening it
+            sessionContainer.setAlignment(Pos.CENTER_LEFT);
+            statusBadge.setMinWidth(20);
+            mainLabel.setMinWidth(Region.USE_PREF_SIZE); // cut the note short before the date and time
+            noteLabel.getStyleClass().addAll("cell_small_label", "session-note");
+            noteLabel.managedProperty().bind(noteLabel.visibleProperty());
+            tooltip.setWrapText(true);
+            tooltip.setMaxWidth(400);
+        }
+
+        @Override
+        protected void updateItem(CaringSession session, boolean empty) {
+            super.updateItem(session, empty);
+            setText(null);
+
+            if (empty || session == null) {
+                setGraphic(null);
+                setTooltip(null);
+                return;
+            }
+
+            statusBadge.setText(session.isComplete() ? "✓" : "✗");
+            mainLabel.setText(String.format("%d. %s - %s at %s",
+                getIndex() + 1,
+                session.getCareType(),
+                session.getDate().printPretty(),
+                session.getTime()));
+            Note note = session.getNote();
+            noteLabel.setText("Notes: " + note);
+            noteLabel.setVisible(!note.value.isEmpty());
+            tooltip.setText(noteLabel.isVisible() ? mainLabel.getText() + "\n" + noteLabel.getText()
+                    : mainLabel.getText());
+            setTooltip(tooltip);
+            setGraphic(sessionContainer);
+        }
     }
 }
@@ -31,8 +31,11 @@ public class PatientPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Patient} using a {@code PatientCard}.
+     * The card is created the first time the cell shows a patient and reused for every patient after that.
      */
     class PatientListViewCell extends ListCell<Patient> {
+        private PatientCard card;
+
         @Override
         protected void updateItem(Patient person, boolean empty) {
             super.updateItem(person, empty);
@@ -43,7 +46,12 @@ public class PatientPanel extends UiPart<Region> {
             } else {
                 // Only show sessions when there is exactly one patient in the list
                 boolean showSessions = personListView.getItems().size() == 1;
-                setGraphic(new PatientCard(person, getIndex() + 1, showSessions).getRoot());
+                if (card == null) {
+                    card = CardNodes.buildCard(() -> new PatientCard(person, getIndex() + 1, showSessions));
+                } else {
+                    card.setPerson(person, getIndex() + 1, showSessions);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.logging.Logger;
 
 import javafx.fxml.FXMLLoader;
 import seedu.noknock.MainApp;
+import seedu.noknock.commons.core.LogsCenter;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
@@ -17,6 +19,8 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    private static final Logger logger = LogsCenter.getLogger(UiPart.class);
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -51,6 +55,15 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph is built in code, with {@code root} as its root.
+     * Used by parts that are created many times, such as list cards, to skip parsing an FXML file for each of them.
+     */
+    protected UiPart(T root) {
+        requireNonNull(root);
+        fxmlLoader.setRoot(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
@@ -68,11 +81,13 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
+        long startTime = System.nanoTime();
         try {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        logger.fine("Loaded " + location + " in " + (System.nanoTime() - startTime) / 1000 + " us");
     }
 
     /**
@@ -0,0 +1,96 @@
+package seedu.noknock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.logic.LogicManager;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.DeletePatientCommand;
+import seedu.noknock.logic.commands.ExitCommand;
+import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.storage.JsonAddressBookStorage;
+import seedu.noknock.storage.JsonUserPrefsStorage;
+import seedu.noknock.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream error = new ByteArrayOutputStream();
+    private Model model;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void run_viewCommand_printsFeedbackAndShownPatients() throws Exception {
+        int exitStatus = run("find-patient Alice\n\n" + ExitCommand.COMMAND_WORD + "\n"
+                + ListPatientsCommand.COMMAND_WORD);
+
+        // the commands after exit are not run
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertEquals(List.of(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1),
+                "1. " + Messages.formatPatient(ALICE),
+                ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), lines(output));
+        assertEquals(List.of(), lines(error));
+    }
+
+    @Test
+    public void run_sameViewCommandTwice_printsShownPatientsBothTimes() throws Exception {
+        run("find-patient Alice\nfind-patient Alice");
+
+        List<String> expectedOutput = List.of(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1),
+                "1. " + Messages.formatPatient(ALICE));
+        assertEquals(expectedOutput, lines(output).subList(0, 2));
+        assertEquals(expectedOutput, lines(output).subList(2, 4));
+        assertEquals(4, lines(output).size());
+    }
+
+    @Test
+    public void run_failedCommand_continuesAndReturnsFailure() throws Exception {
+        int exitStatus = run("unknown-command\n" + DeletePatientCommand.COMMAND_WORD + " 1");
+
+        // the patients shown are not printed after a command that changes the address book
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitStatus);
+        assertEquals(List.of(String.format(DeletePatientCommand.MESSAGE_DELETE_PATIENT_SUCCESS,
+                Messages.formatPatient(ALICE))), lines(output));
+        assertEquals(List.of(MESSAGE_UNKNOWN_COMMAND), lines(error));
+        assertEquals(getTypicalAddressBook().getPatientList().size() - 1, model.getFilteredPatientList().size());
+    }
+
+    private int run(String input) throws Exception {
+        return app.run(new BufferedReader(new StringReader(input)),
+                new PrintStream(output, true, StandardCharsets.UTF_8),
+                new PrintStream(error, true, StandardCharsets.UTF_8));
+    }
+
+    private static List<String> lines(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.noknock.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ListChangeTest {
+
+    @Test
+    public void constructor_negativeFrom_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new ListChange<>(-1, List.of(), List.of("a")));
+    }
+
+    @Test
+    public void between_sameElements_returnsEmpty() {
+        assertEquals(Optional.empty(), ListChange.between(List.of("a", "b"), new ArrayList<>(List.of("a", "b"))));
+    }
+
+    @Test
+    public void between_singleElementChanged_onlyThatElement() {
+        // inserted
+        assertEquals(Optional.of(new ListChange<>(1, List.of(), List.of("x"))),
+                ListChange.between(List.of("a", "b"), List.of("a", "x", "b")));
+
+        // removed
+        assertEquals(Optional.of(new ListChange<>(0, List.of("a"), List.of())),
+                ListChange.between(List.of("a", "b"), List.of("b")));
+
+        // replaced
+        assertEquals(Optional.of(new ListChange<>(1, List.of("b"), List.of("x"))),
+                ListChange.between(List.of("a", "b", "c"), List.of("a", "x", "c")));
+    }
+
+    @Test
+    public void between_equalButDifferentInstance_isChange() {
+        String element = "a";
+        String equalElement = new String(element);
+        assertEquals(Optional.of(new ListChange<>(0, List.of(element), List.of(equalElement))),
+                ListChange.between(List.of(element), List.of(equalElement)));
+    }
+
+    @Test
+    public void applyTo_changesBetweenLists_givesNewList() {
+        List<List<String>> newLists = List.of(List.of(), List.of("a", "b", "c", "d"), List.of("x", "y"),
+                List.of("a", "x", "y", "d"), List.of("a", "b", "c", "d", "e"));
+        List<String> oldList = List.of("a", "b", "c", "d");
+        for (List<String> newList : newLists) {
+            List<String> list = new ArrayList<>(oldList);
+            ListChange.between(oldList, newList).ifPresent(change -> change.applyTo(list));
+            assertEquals(newList, list);
+        }
+    }
+}
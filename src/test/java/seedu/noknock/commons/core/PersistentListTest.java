@@ -0,0 +1,113 @@
+package seedu.noknock.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void withChanges_randomOperations_sameAsArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.of();
+        for (int i = 0; i < 5_000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.withAdded(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.withReplaced(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.withRemoved(index);
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void withChanges_originalListUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "b", "c", "d"), original.withAdded("d"));
+        assertEquals(List.of("a", "x", "c"), original.withReplaced(1, "x"));
+        assertEquals(List.of("b", "c"), original.withRemoved(0));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void withChanges_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withAdded(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withReplaced(1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withRemoved(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    @Test
+    public void modifyList_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void iteratorFrom_index_iteratesFromIndex() {
+        PersistentList<Integer> list = PersistentList.of();
+        for (int i = 0; i < 100; i++) {
+            list = list.withAdded(i);
+        }
+
+        for (int start = 0; start <= list.size(); start++) {
+            Iterator<Integer> iterator = list.iteratorFrom(start);
+            for (int i = start; i < list.size(); i++) {
+                assertEquals(Integer.valueOf(i), iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+
+        assertTrue(list.equals(list));
+        assertTrue(list.equals(List.of("a", "b")));
+        assertTrue(list.equals(PersistentList.<String>of().withAdded("a").withAdded("b")));
+        assertFalse(list.equals(List.of("a")));
+        assertFalse(list.equals(List.of("a", "c")));
+        assertFalse(list.equals(null));
+        assertTrue(PersistentList.of().equals(List.of()));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.noknock.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    @Test
+    public void changes_randomOperations_sameAsArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PositionIndex<Integer> index = new PositionIndex<>();
+        for (int i = 0; i < 5_000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int position = random.nextInt(expected.size() + 1);
+                expected.add(position, i);
+                index.add(position, i);
+            } else if (operation == 1) {
+                Integer key = expected.get(random.nextInt(expected.size()));
+                assertEquals(expected.indexOf(key), index.remove(key));
+                expected.remove(key);
+            } else {
+                int position = random.nextInt(expected.size());
+                index.replace(expected.get(position), -i);
+                expected.set(position, -i);
+            }
+
+            assertEquals(expected.size(), index.size());
+            Integer key = expected.isEmpty() ? i : expected.get(random.nextInt(expected.size()));
+            assertEquals(expected.indexOf(key), index.positionOf(key));
+        }
+        for (int position = 0; position < expected.size(); position++) {
+            assertEquals(position, index.positionOf(expected.get(position)));
+        }
+    }
+
+    @Test
+    public void setAll_keys_positionsInOrder() {
+        PositionIndex<String> index = new PositionIndex<>();
+        index.add("z");
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            keys.add("key" + i);
+        }
+
+        index.setAll(keys);
+
+        assertFalse(index.contains("z"));
+        assertEquals(keys.size(), index.size());
+        for (int position = 0; position < keys.size(); position++) {
+            assertEquals(position, index.positionOf(keys.get(position)));
+        }
+        index.add(1, "z");
+        assertEquals(1, index.positionOf("z"));
+        assertEquals(2, index.positionOf("key1"));
+    }
+
+    @Test
+    public void remove_missingKey_returnsMinusOne() {
+        PositionIndex<String> index = new PositionIndex<>();
+        index.add("a");
+        assertEquals(-1, index.remove("b"));
+        assertEquals(-1, index.positionOf("b"));
+        assertTrue(index.contains("a"));
+    }
+
+    @Test
+    public void add_duplicateKey_throwsIllegalArgumentException() {
+        PositionIndex<String> index = new PositionIndex<>();
+        index.add("a");
+        index.add("b");
+        assertThrows(IllegalArgumentException.class, () -> index.add("a"));
+        assertThrows(IllegalArgumentException.class, () -> index.replace("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> index.setAll(List.of("c", "c")));
+    }
+
+    @Test
+    public void add_invalidPosition_throwsIndexOutOfBoundsException() {
+        PositionIndex<String> index = new PositionIndex<>();
+        assertThrows(IndexOutOfBoundsException.class, () -> index.add(1, "a"));
+    }
+}
@@ -1,13 +1,21 @@
 package seedu.noknock.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.noknock.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,34 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_rotatesBackups() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        for (int version = 1; version <= 4; version++) {
+            byte[] content = ("version " + version).getBytes();
+            FileUtil.writeAtomically(file, 2, out -> out.write(content));
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupPath(file, 3)));
+        assertEquals(1 + 2, testFolder.resolve("data").toFile().list().length);
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsExistingFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 1, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("dummy IO exception");
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupPath(file, 1)));
+        assertEquals(1, testFolder.toFile().list().length);
+    }
+
 }
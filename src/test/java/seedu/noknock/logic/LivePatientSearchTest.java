@@ -0,0 +1,113 @@
+package seedu.noknock.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.HOON;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class LivePatientSearchTest {
+
+    private final LivePatientSearch search = new LivePatientSearch(10);
+
+    @Test
+    public void search_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> search.search(null, List.of(), 0));
+    }
+
+    @Test
+    public void search_prefixes_returnsMatchesBestFirst() {
+        // "Benson Meier" and "Hoon Meier" match "meier" exactly, "Daniel Meier" also matches "dan" by prefix
+        List<Patient> matches = search.search(" dan  Meier ", List.of(ALICE, BENSON, DANIEL, HOON), 0).join();
+        assertEquals(List.of(DANIEL, BENSON, HOON), matches);
+    }
+
+    @Test
+    public void search_moreMatchesThanMaxResults_returnsBestMatches() {
+        LivePatientSearch searchForOne = new LivePatientSearch(1);
+        assertEquals(List.of(DANIEL), searchForOne.search("dan meier", List.of(BENSON, DANIEL, HOON), 0).join());
+    }
+
+    @Test
+    public void search_queryExtendsLastQuery_searchesLastMatchesOnly() {
+        Patient alina = new PatientBuilder().withName("Alina Tan").build();
+        search.search("al", List.of(ALICE, BENSON), 0).join();
+
+        // same version, so the patients are assumed unchanged and only Alice is searched again
+        assertEquals(List.of(ALICE), search.search("ali", List.of(ALICE, BENSON, alina), 0).join());
+
+        // new version
+        assertEquals(List.of(ALICE, alina), search.search("ali", List.of(ALICE, BENSON, alina), 1).join());
+
+        // different keyword
+        assertEquals(List.of(alina), search.search("tan", List.of(ALICE, BENSON, alina), 1).join());
+    }
+
+    @Test
+    public void search_newSearchStarted_cancelsUnfinishedSearch() throws Exception {
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch releaseScan = new CountDownLatch(1);
+        List<Patient> slowPatients = new AbstractList<>() {
+            @Override
+            public Patient get(int index) {
+                if (index == 0) {
+                    scanStarted.countDown();
+                    try {
+                        releaseScan.await();
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return ALICE;
+            }
+
+            @Override
+            public int size() {
+                return 5000;
+            }
+        };
+
+        CompletableFuture<List<Patient>> slowSearch = search.search("alice", slowPatients, 0);
+        scanStarted.await();
+        CompletableFuture<List<Patient>> newSearch = search.search("benson", List.of(BENSON), 0);
+        releaseScan.countDown();
+
+        assertThrows(CancellationException.class, slowSearch::join);
+        assertEquals(List.of(BENSON), newSearch.join());
+    }
+
+    @Test
+    public void search_searchFails_completesExceptionally() {
+        List<Patient> unreadablePatients = new AbstractList<>() {
+            @Override
+            public Patient get(int index) {
+                throw new IllegalStateException("unreadable");
+            }
+
+            @Override
+            public int size() {
+                return 1;
+            }
+        };
+
+        CompletableFuture<List<Patient>> failedSearch = search.search("alice", unreadablePatients, 0);
+        assertThrows(CompletionException.class, IllegalStateException.class.getName() + ": unreadable",
+                failedSearch::join);
+
+        // later searches still run
+        assertEquals(List.of(ALICE), search.search("alice", List.of(ALICE), 1).join());
+    }
+}
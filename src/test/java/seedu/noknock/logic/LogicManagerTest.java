@@ -1,6 +1,8 @@
 package seedu.noknock.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
 import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.noknock.logic.commands.CommandTestUtil.IC_DESC_AMY;
@@ -11,6 +13,7 @@ import static seedu.noknock.testutil.TypicalPatients.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.noknock.logic.commands.AddPatientCommand;
 import seedu.noknock.logic.commands.CommandResult;
 import seedu.noknock.logic.commands.ListCommand;
+import seedu.noknock.logic.commands.RedoCommand;
+import seedu.noknock.logic.commands.UndoCommand;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.Model;
@@ -81,6 +86,39 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unchangedAddressBook_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        // the address book as loaded at startup is not written back
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(1, logic.getSkippedSaveCount());
+
+        logic.execute(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + WARD_DESC_AMY + IC_DESC_AMY);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(1, logic.getSkippedSaveCount());
+        Files.delete(addressBookPath);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(2, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_undoAndRedo_restoresAndSaves() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + WARD_DESC_AMY + IC_DESC_AMY);
+        Files.delete(addressBookPath);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPatientList().isEmpty());
+        assertTrue(Files.exists(addressBookPath));
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPatientList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -8,14 +8,19 @@ import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.commons.core.ListChange;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.model.AddressBook;
@@ -23,6 +28,9 @@ import seedu.noknock.model.Model;
 import seedu.noknock.model.ReadOnlyAddressBook;
 import seedu.noknock.model.ReadOnlyUserPrefs;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientAttributeIndex;
+import seedu.noknock.model.person.PatientNameIndex;
+import seedu.noknock.model.session.PatientCaringSession;
 import seedu.noknock.testutil.PatientBuilder;
 
 public class AddPatientCommandTest {
@@ -54,6 +62,15 @@ public class AddPatientCommandTest {
                 addCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_duplicateIc_throwsCommandException() throws Exception {
+        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+        new AddPatientCommand(new PatientBuilder().withName("Alice").build()).execute(modelStub);
+        AddPatientCommand addCommand = new AddPatientCommand(new PatientBuilder().withName("Bob").build());
+
+        assertThrows(CommandException.class, Messages.MESSAGE_DUPLICATE_IC, () -> addCommand.execute(modelStub));
+    }
+
     @Test
     public void equals() {
         Patient alice = new PatientBuilder().withName("Alice").build();
@@ -134,6 +151,56 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientNameIndex getPatientNameIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientAttributeIndex getPatientAttributeIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PatientCaringSession> getSessionsBetween(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PatientCaringSession> getOverdueSessions(LocalDateTime now) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPatient(Patient person) {
             throw new AssertionError("This method should not be called.");
@@ -150,7 +217,12 @@ public class AddPatientCommandTest {
         }
 
         @Override
-        public ObservableList<Patient> getFilteredPatientList() {
+        public List<Patient> getFilteredPatientList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addFilteredPatientListListener(Consumer<ListChange<Patient>> listener) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -158,6 +230,11 @@ public class AddPatientCommandTest {
         public void updateFilteredPatientList(Predicate<Patient> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -183,6 +260,7 @@ public class AddPatientCommandTest {
      */
     private class ModelStubAcceptingPersonAdded extends ModelStub {
         final ArrayList<Patient> personsAdded = new ArrayList<>();
+        private final AddressBook addressBook = new AddressBook();
 
         @Override
         public boolean hasPatient(Patient person) {
@@ -194,6 +272,12 @@ public class AddPatientCommandTest {
         public void addPatient(Patient person) {
             requireNonNull(person);
             personsAdded.add(person);
+            addressBook.addPatient(person);
+        }
+
+        @Override
+        public PatientAttributeIndex getPatientAttributeIndex() {
+            return addressBook.getPatientAttributeIndex();
         }
 
         @Override
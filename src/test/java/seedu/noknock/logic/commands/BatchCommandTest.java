@@ -0,0 +1,68 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.AMY;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.commands.BatchCommand.ScriptCommand;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+
+public class BatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_changesAddressBookOnce() throws Exception {
+        long versionBefore = model.getAddressBookVersion();
+        int sizeBefore = model.getAddressBook().getPatientList().size();
+        BatchCommand batchCommand = new BatchCommand(List.of(
+                new ScriptCommand(1, new AddPatientCommand(AMY)),
+                new ScriptCommand(2, new AddPatientCommand(BOB)),
+                new ScriptCommand(4, new DeletePatientCommand(INDEX_FIRST_PERSON))));
+
+        CommandResult result = batchCommand.execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(BatchCommand.MESSAGE_SUCCESS, 3, "")));
+        assertEquals(versionBefore + 1, model.getAddressBookVersion());
+        assertEquals(sizeBefore + 1, model.getAddressBook().getPatientList().size());
+        assertFalse(model.hasPatient(ALICE));
+        assertTrue(model.hasPatient(AMY));
+        assertTrue(model.hasPatient(BOB));
+    }
+
+    @Test
+    public void execute_laterCommandFails_nothingChanged() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getAddressBook().getPatientList().size() + 2);
+        BatchCommand batchCommand = new BatchCommand(List.of(
+                new ScriptCommand(1, new AddPatientCommand(AMY)),
+                new ScriptCommand(3, new DeletePatientCommand(outOfBoundIndex))));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 3,
+                DeletePatientCommand.MESSAGE_INVALID_PATIENT_INDEX));
+        assertFalse(model.hasPatient(AMY));
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(List.of(new ScriptCommand(1, new AddPatientCommand(AMY))));
+
+        assertTrue(batchCommand.equals(batchCommand));
+        assertTrue(batchCommand.equals(new BatchCommand(List.of(new ScriptCommand(1, new AddPatientCommand(AMY))))));
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(new ScriptCommand(2, new AddPatientCommand(AMY))))));
+        assertFalse(batchCommand.equals(new BatchCommand(List.of(new ScriptCommand(1, new AddPatientCommand(BOB))))));
+        assertFalse(batchCommand.equals(null));
+    }
+}
@@ -127,6 +127,16 @@ public class EditPatientCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_icOfAnotherPatient_failure() {
+        Patient secondPerson = model.getFilteredPatientList().get(INDEX_SECOND_PERSON.getZeroBased());
+        EditPatientDescriptor descriptor =
+                new EditPatientDescriptorBuilder().withIC(secondPerson.getIC().toString()).build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, descriptor);
+
+        assertCommandFailure(editCommand, model, Messages.MESSAGE_DUPLICATE_IC);
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPatientList().size() + 1);
@@ -0,0 +1,83 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientAttributesMatchPredicate;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.tag.Tag;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class FilterPatientsCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PatientAttributesMatchPredicate wardPredicate =
+                new PatientAttributesMatchPredicate(null, new Ward("2A"), Set.of());
+        PatientAttributesMatchPredicate tagPredicate =
+                new PatientAttributesMatchPredicate(null, null, Set.of(new Tag("friends")));
+        FilterPatientsCommand filterByWardCommand = new FilterPatientsCommand(wardPredicate);
+
+        assertTrue(filterByWardCommand.equals(filterByWardCommand));
+        assertTrue(filterByWardCommand.equals(new FilterPatientsCommand(
+                new PatientAttributesMatchPredicate(null, new Ward("2A"), Set.of()))));
+        assertFalse(filterByWardCommand.equals(1));
+        assertFalse(filterByWardCommand.equals(null));
+        assertFalse(filterByWardCommand.equals(new FilterPatientsCommand(tagPredicate)));
+    }
+
+    @Test
+    public void execute_allTags_patientsWithEveryTagFound() {
+        PatientAttributesMatchPredicate predicate = new PatientAttributesMatchPredicate(null, new Ward("2A"),
+                Set.of(new Tag("friends"), new Tag("owesMoney")));
+        expectedModel.updateFilteredPatientList(predicate);
+
+        assertCommandSuccess(new FilterPatientsCommand(predicate), model,
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_ic_singlePatientFound() {
+        PatientAttributesMatchPredicate predicate =
+                new PatientAttributesMatchPredicate(DANIEL.getIC(), null, Set.of());
+        expectedModel.updateFilteredPatientList(predicate);
+
+        assertCommandSuccess(new FilterPatientsCommand(predicate), model,
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_patientMovedToAnotherWard_leavesFilteredList() {
+        new FilterPatientsCommand(new PatientAttributesMatchPredicate(null, null, Set.of(new Tag("friends"))))
+                .execute(model);
+        Patient movedAlice = new PatientBuilder(ALICE).withWard("3B").withTags().build();
+
+        model.setPatient(ALICE, movedAlice);
+
+        assertFalse(model.getFilteredPatientList().contains(movedAlice));
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPatientList());
+        assertEquals(Optional.of(movedAlice), model.getPatientAttributeIndex().getPatientWithIC(ALICE.getIC()));
+    }
+}
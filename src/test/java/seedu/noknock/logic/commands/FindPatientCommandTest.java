@@ -27,8 +27,8 @@ public class FindPatientCommandTest {
         AddressBook addressBook = new AddressBook();
 
         // two patients
-        addressBook.addPatient(new PatientBuilder().withName("Alice Pauline").build());
-        addressBook.addPatient(new PatientBuilder().withName("Bob Brown").build());
+        addressBook.addPatient(new PatientBuilder().withName("Alice Pauline").withIC("S0000001A").build());
+        addressBook.addPatient(new PatientBuilder().withName("Bob Brown").withIC("S0000002A").build());
 
         model = new ModelManager(addressBook, new UserPrefs());
     }
@@ -72,6 +72,20 @@ public class FindPatientCommandTest {
         assertEquals(2, model.getFilteredPatientList().size());
     }
 
+    @Test
+    public void execute_partialAndMisspeltKeywords_patientsFoundBestFirst() {
+        model.addPatient(new PatientBuilder().withName("Alicia Brow").withIC("S0000003A").build());
+        FindPatientCommand command =
+                new FindPatientCommand(new PatientNameContainsKeywordsPredicate(Arrays.asList("Ali", "browm")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3),
+                result.getFeedbackToUser());
+        // "Alicia Brow" starts with "ali" and is one mistake from "browm"; "Alice" only starts with "ali"
+        assertEquals(Arrays.asList("Alicia Brow", "Alice Pauline", "Bob Brown"),
+                model.getFilteredPatientList().stream().map(patient -> patient.getName().fullName).toList());
+    }
+
     @Test
     public void execute_multipleKeywords_multiplePatientsFound() {
         FindPatientCommand command =
@@ -83,4 +97,22 @@ public class FindPatientCommandTest {
                 result.getFeedbackToUser());
         assertEquals(2, model.getFilteredPatientList().size());
     }
+
+    @Test
+    public void execute_moreMatchesThanMaxResults_tellsUserResultsWereCapped() {
+        for (int i = 0; i < FindPatientCommand.MAX_RESULTS; i++) {
+            model.addPatient(new PatientBuilder().withName("Kim Lee " + i)
+                    .withIC(String.format("T%07dB", i)).build());
+        }
+        FindPatientCommand command =
+                new FindPatientCommand(new PatientNameContainsKeywordsPredicate(Arrays.asList("kim", "bob")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, FindPatientCommand.MAX_RESULTS) + "\n"
+                + String.format(FindPatientCommand.MESSAGE_RESULTS_CAPPED, FindPatientCommand.MAX_RESULTS),
+                result.getFeedbackToUser());
+        assertEquals(FindPatientCommand.MAX_RESULTS, model.getFilteredPatientList().size());
+        // every listed patient matches one keyword exactly, so they are listed by name
+        assertEquals("Bob Brown", model.getFilteredPatientList().get(0).getName().fullName);
+    }
 }
@@ -20,8 +20,8 @@ public class ListPatientsCommandTest {
         AddressBook addressBook = new AddressBook();
 
         // two patients
-        addressBook.addPatient(new PatientBuilder().withName("Alice Pauline").build());
-        addressBook.addPatient(new PatientBuilder().withName("Bob Brown").build());
+        addressBook.addPatient(new PatientBuilder().withName("Alice Pauline").withIC("S0000001A").build());
+        addressBook.addPatient(new PatientBuilder().withName("Bob Brown").withIC("S0000002A").build());
 
         model = new ModelManager(addressBook, new UserPrefs());
     }
@@ -0,0 +1,33 @@
+package seedu.noknock.logic.commands;
+
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneChange_reappliesChange() {
+        model.deletePatient(ALICE);
+        model.commitAddressBook();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        model.undoAddressBook();
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.testutil.CaringSessionBuilder;
+
+public class SessionsTodayCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 22);
+
+    private final CaringSession morning = new CaringSessionBuilder().withDate("2025-10-22").withTime("08:00").build();
+    private final CaringSession evening = new CaringSessionBuilder().withDate("2025-10-22").withTime("18:00").build();
+    private final CaringSession tomorrow = new CaringSessionBuilder().withDate("2025-10-23").withTime("08:00").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(ALICE.withCaringSessionList(List.of(evening, tomorrow)));
+        addressBook.addPatient(BENSON.withCaringSessionList(List.of(morning)));
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_sessionsToday_listsSessionsOfAllPatientsByTime() {
+        // the sessions of patients that are filtered out are listed too
+        model.updateFilteredPatientList(patient -> false);
+
+        CommandResult result = new SessionsTodayCommand(TODAY).execute(model);
+
+        String expectedSessions = "\n1. " + BENSON.getName() + ": " + Messages.formatSession(morning)
+                + "\n2. " + ALICE.getName() + ": " + Messages.formatSession(evening);
+        assertEquals(String.format(SessionsTodayCommand.MESSAGE_SUCCESS, TODAY, expectedSessions),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noSessionsToday_noSessionsMessage() {
+        CommandResult result = new SessionsTodayCommand(TODAY.minusDays(1)).execute(model);
+        assertEquals(SessionsTodayCommand.MESSAGE_NO_SESSIONS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        SessionsTodayCommand command = new SessionsTodayCommand(TODAY);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SessionsTodayCommand(TODAY)));
+        assertFalse(command.equals(new SessionsTodayCommand(TODAY.plusDays(1))));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.testutil.CaringSessionBuilder;
+
+public class SessionsWeekCommandTest {
+
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 10, 22);
+
+    private final CaringSession lastSunday = createSession("2025-10-19");
+    private final CaringSession monday = createSession("2025-10-20");
+    private final CaringSession sunday = createSession("2025-10-26");
+    private final CaringSession nextMonday = createSession("2025-10-27");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(ALICE.withCaringSessionList(List.of(lastSunday, sunday)));
+        addressBook.addPatient(BENSON.withCaringSessionList(List.of(monday, nextMonday)));
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_sessionsThisWeek_listsSessionsFromMondayToSunday() {
+        CommandResult result = new SessionsWeekCommand(WEDNESDAY).execute(model);
+
+        String expectedSessions = "\n1. " + BENSON.getName() + ": " + Messages.formatSession(monday)
+                + "\n2. " + ALICE.getName() + ": " + Messages.formatSession(sunday);
+        assertEquals(String.format(SessionsWeekCommand.MESSAGE_SUCCESS, "2025-10-20", "2025-10-26", expectedSessions),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noSessionsThisWeek_noSessionsMessage() {
+        CommandResult result = new SessionsWeekCommand(WEDNESDAY.plusWeeks(2)).execute(model);
+        assertEquals(SessionsWeekCommand.MESSAGE_NO_SESSIONS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        SessionsWeekCommand command = new SessionsWeekCommand(WEDNESDAY);
+
+        // same week -> returns true
+        assertTrue(command.equals(new SessionsWeekCommand(LocalDate.of(2025, 10, 26))));
+
+        // different week -> returns false
+        assertFalse(command.equals(new SessionsWeekCommand(LocalDate.of(2025, 10, 27))));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new SessionsTodayCommand(WEDNESDAY)));
+    }
+
+    private static CaringSession createSession(String date) {
+        return new CaringSessionBuilder().withDate(date).build();
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.noknock.logic.commands;
+
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_committedChange_restoresPreviousAddressBook() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deletePatient(ALICE);
+        model.commitAddressBook();
+        model.updateFilteredPatientList(patient -> false);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import seedu.noknock.logic.commands.AddCaringSessionCommand;
 import seedu.noknock.logic.commands.AddNextOfKinCommand;
 import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.BatchCommand;
 import seedu.noknock.logic.commands.ClearCommand;
 import seedu.noknock.logic.commands.DeleteCaringSessionCommand;
 import seedu.noknock.logic.commands.DeleteCommand;
@@ -27,12 +28,17 @@ import seedu.noknock.logic.commands.EditCommand.EditPatientDescriptor;
 import seedu.noknock.logic.commands.EditNextOfKinCommand;
 import seedu.noknock.logic.commands.EditPatientCommand;
 import seedu.noknock.logic.commands.ExitCommand;
+import seedu.noknock.logic.commands.FilterPatientsCommand;
 import seedu.noknock.logic.commands.FindCommand;
 import seedu.noknock.logic.commands.FindPatientByNextOfKinCommand;
 import seedu.noknock.logic.commands.FindPatientCommand;
 import seedu.noknock.logic.commands.HelpCommand;
 import seedu.noknock.logic.commands.ListCommand;
 import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.commands.RedoCommand;
+import seedu.noknock.logic.commands.SessionsTodayCommand;
+import seedu.noknock.logic.commands.SessionsWeekCommand;
+import seedu.noknock.logic.commands.UndoCommand;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.person.NameContainsKeywordsPredicate;
 import seedu.noknock.model.person.Patient;
@@ -58,6 +64,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -165,6 +183,29 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(userInput) instanceof FindPatientByNextOfKinCommand);
     }
 
+    @Test
+    public void parseCommand_filterPatients() throws Exception {
+        String userInput = FilterPatientsCommand.COMMAND_WORD + " w/2A t/friends";
+        assertTrue(parser.parseCommand(userInput) instanceof FilterPatientsCommand);
+    }
+
+    @Test
+    public void parseCommand_sessionsToday() throws Exception {
+        assertTrue(parser.parseCommand(SessionsTodayCommand.COMMAND_WORD) instanceof SessionsTodayCommand);
+    }
+
+    @Test
+    public void parseCommand_sessionsWeek() throws Exception {
+        assertTrue(parser.parseCommand(SessionsWeekCommand.COMMAND_WORD) instanceof SessionsWeekCommand);
+    }
+
+    @Test
+    public void parseCommand_batch() throws Exception {
+        String userInput = BatchCommand.COMMAND_WORD + "\n" + ListPatientsCommand.COMMAND_WORD + "\n"
+                + FindPatientCommand.COMMAND_WORD + " John";
+        assertTrue(parser.parseCommand(userInput) instanceof BatchCommand);
+    }
+
     @Test
     public void parseCommand_findPatient() throws Exception {
         String userInput = FindPatientCommand.COMMAND_WORD + " John";
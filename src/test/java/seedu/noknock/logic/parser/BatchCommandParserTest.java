@@ -0,0 +1,85 @@
+package seedu.noknock.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.AMY;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.BatchCommand;
+import seedu.noknock.logic.commands.BatchCommand.ScriptCommand;
+import seedu.noknock.logic.commands.DeletePatientCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.testutil.PersonUtil;
+
+public class BatchCommandParserTest {
+
+    private static final String ADD_AMY = PersonUtil.getAddPatientCommand(AMY);
+    private static final String DELETE_FIRST = DeletePatientCommand.COMMAND_WORD + " 1";
+
+    @TempDir
+    public Path testFolder;
+
+    private BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_pastedScript_skipsBlankAndCommentLines() {
+        BatchCommand expectedCommand = new BatchCommand(List.of(
+                new ScriptCommand(2, new AddPatientCommand(AMY)),
+                new ScriptCommand(5, new DeletePatientCommand(INDEX_FIRST_PERSON))));
+
+        // the first line is the rest of the line with the command word
+        assertParseSuccess(parser, "\n" + ADD_AMY + "\n\n  # admitted in error\n " + DELETE_FIRST + " \n",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_scriptFile_readsFile() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("# ward 2A", ADD_AMY, DELETE_FIRST));
+        BatchCommand expectedCommand = new BatchCommand(List.of(
+                new ScriptCommand(2, new AddPatientCommand(AMY)),
+                new ScriptCommand(3, new DeletePatientCommand(INDEX_FIRST_PERSON))));
+
+        assertParseSuccess(parser, " " + script, expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path missingScript = testFolder.resolve("missing.txt");
+        ParseException thrown = assertThrows(ParseException.class, () -> parser.parse(" " + missingScript));
+        assertTrue(thrown.getMessage().startsWith(
+                String.format(BatchCommandParser.MESSAGE_CANNOT_READ_SCRIPT, missingScript, "")));
+    }
+
+    @Test
+    public void parse_invalidLines_reportsEveryInvalidLine() {
+        String expectedMessage = String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 4,
+                        BatchCommandParser.MESSAGE_NESTED_BATCH);
+        assertParseFailure(parser, "\nunknown-command\n" + ADD_AMY + "\n" + BatchCommand.COMMAND_WORD + " other.txt",
+                expectedMessage);
+    }
+
+    @Test
+    public void parse_onlyComments_throwsParseException() {
+        assertParseFailure(parser, "\n# nothing to do\n\n", BatchCommandParser.MESSAGE_EMPTY_SCRIPT);
+    }
+}
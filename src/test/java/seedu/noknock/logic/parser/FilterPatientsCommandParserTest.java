@@ -0,0 +1,52 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_WARD;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.FilterPatientsCommand;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.PatientAttributesMatchPredicate;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.tag.Tag;
+
+public class FilterPatientsCommandParserTest {
+
+    private FilterPatientsCommandParser parser = new FilterPatientsCommandParser();
+
+    @Test
+    public void parse_noFilters_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterPatientsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 2A",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterPatientsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " w/A2", Ward.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ic/1234567S", IC.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/not-a-tag", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedWard_throwsParseException() {
+        assertParseFailure(parser, " w/2A w/3B", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_WARD));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterPatientsCommand() {
+        assertParseSuccess(parser, " w/2A", new FilterPatientsCommand(
+                new PatientAttributesMatchPredicate(null, new Ward("2A"), Set.of())));
+
+        assertParseSuccess(parser, " t/friends ic/S1234567A t/owesMoney", new FilterPatientsCommand(
+                new PatientAttributesMatchPredicate(new IC("S1234567A"), null,
+                        Set.of(new Tag("friends"), new Tag("owesMoney")))));
+    }
+}
@@ -2,12 +2,15 @@ package seedu.noknock.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.noknock.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -15,8 +18,6 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.person.exceptions.DuplicatePatientException;
 import seedu.noknock.testutil.PatientBuilder;
@@ -53,6 +54,25 @@ public class AddressBookTest {
         assertThrows(DuplicatePatientException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_patientsModified_changes() {
+        long version = addressBook.getVersion();
+        addressBook.addPatient(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.hasPatient(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        Patient editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPatient(ALICE, editedAlice);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removePatient(editedAlice);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPatient_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPatient(null));
@@ -82,6 +102,19 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPatientList().remove(0));
     }
 
+    @Test
+    public void snapshot_addressBookChangedLater_snapshotUnchanged() {
+        addressBook.addPatient(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        // the snapshot shares the patients list rather than copying it
+        assertSame(addressBook.getPatientList(), snapshot.getPatientList());
+
+        addressBook.removePatient(ALICE);
+        assertEquals(List.of(ALICE), snapshot.getPatientList());
+        assertEquals(List.of(), addressBook.getPatientList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{patients=" + addressBook.getPatientList() + "}";
@@ -92,14 +125,14 @@ public class AddressBookTest {
      * A stub ReadOnlyAddressBook whose patients list can violate interface constraints.
      */
     private static class AddressBookStub implements ReadOnlyAddressBook {
-        private final ObservableList<Patient> patients = FXCollections.observableArrayList();
+        private final List<Patient> patients = new ArrayList<>();
 
         AddressBookStub(Collection<Patient> patients) {
-            this.patients.setAll(patients);
+            this.patients.addAll(patients);
         }
 
         @Override
-        public ObservableList<Patient> getPatientList() {
+        public List<Patient> getPatientList() {
             return patients;
         }
     }
@@ -7,16 +7,31 @@ import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.commons.core.ListChange;
 import seedu.noknock.model.person.NameContainsKeywordsPredicate;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.PatientCaringSession;
+import seedu.noknock.model.session.SessionStatus;
 import seedu.noknock.testutil.AddressBookBuilder;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +108,157 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPatientList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPatientList_withComparator_ordersPatients() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing((Patient patient) -> patient.getName().fullName).reversed());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPatientList());
+
+        // predicate only -> address book order
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPatientList());
+    }
+
+    @Test
+    public void addFilteredPatientListListener_modelChanged_receivesOneChangePerOperation() {
+        modelManager.addPatient(ALICE);
+        List<ListChange<Patient>> changes = new ArrayList<>();
+        modelManager.addFilteredPatientListListener(changes::add);
+
+        modelManager.addPatient(BENSON);
+        modelManager.updateFilteredPatientList(patient -> patient.equals(BENSON));
+        // a filter that shows the same patients does not change the list
+        modelManager.updateFilteredPatientList(patient -> patient.equals(BENSON));
+
+        // the listener is first given the patients already in the list
+        assertEquals(List.of(new ListChange<>(0, List.of(), List.of(ALICE)),
+                new ListChange<>(1, List.of(), List.of(BENSON)),
+                new ListChange<>(0, List.of(ALICE), List.of())), changes);
+
+        // applying the changes in order gives the filtered list
+        List<Patient> mirror = new ArrayList<>();
+        changes.forEach(change -> change.applyTo(mirror));
+        assertEquals(modelManager.getFilteredPatientList(), mirror);
+    }
+
+    @Test
+    public void setPatientAndDeletePatient_filteredInBookOrder_changeOnlyAffectedPatients() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Predicate<Patient> notBenson = patient -> !patient.getName().equals(BENSON.getName());
+        model.updateFilteredPatientList(notBenson);
+        List<ListChange<Patient>> changes = new ArrayList<>();
+        List<Patient> mirror = new ArrayList<>();
+        model.addFilteredPatientListListener(change -> {
+            changes.add(change);
+            change.applyTo(mirror);
+        });
+        changes.clear();
+
+        Patient editedCarl = new PatientBuilder(CARL).withWard("9Z").build();
+        model.setPatient(CARL, editedCarl);
+        model.deletePatient(BENSON);
+        model.deletePatient(ALICE);
+        model.commitAddressBook();
+
+        // removing BENSON, who is filtered out, does not change the filtered list
+        assertEquals(List.of(new ListChange<>(1, List.of(CARL), List.of(editedCarl)),
+                new ListChange<>(0, List.of(ALICE), List.of())), changes);
+        assertEquals(filteredFromScratch(model, notBenson), model.getFilteredPatientList());
+        assertEquals(model.getFilteredPatientList(), mirror);
+
+        model.undoAddressBook();
+        assertEquals(filteredFromScratch(model, notBenson), model.getFilteredPatientList());
+        assertEquals(model.getFilteredPatientList(), mirror);
+    }
+
+    @Test
+    public void setPatientAndUndo_filteredInSortedOrder_keepsSortedOrder() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Comparator<Patient> byWard = Comparator.comparing((Patient patient) -> patient.getWard().toString());
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS, byWard);
+        List<Patient> mirror = new ArrayList<>();
+        model.addFilteredPatientListListener(change -> change.applyTo(mirror));
+
+        model.setPatient(ALICE, new PatientBuilder(ALICE).withWard("9Z").build());
+        model.setPatient(BENSON, new PatientBuilder(BENSON).withWard("1A").build());
+        model.commitAddressBook();
+        List<Patient> expected = new ArrayList<>(model.getAddressBook().getPatientList());
+        expected.sort(byWard);
+        assertEquals(expected, model.getFilteredPatientList());
+        assertEquals(expected, mirror);
+
+        model.undoAddressBook();
+        expected = new ArrayList<>(model.getAddressBook().getPatientList());
+        expected.sort(byWard);
+        assertEquals(expected, model.getFilteredPatientList());
+        assertEquals(expected, mirror);
+    }
+
+    @Test
+    public void updateFilteredPatientList_indexLookupPredicate_patientsInBookOrder() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsPredicate meierOrKurz = new NameContainsKeywordsPredicate(List.of("Meier", "Kurz"));
+        model.deletePatient(BENSON);
+        model.addPatient(BENSON);
+
+        model.updateFilteredPatientList(meierOrKurz.withIndex(model.getPatientNameIndex()));
+        assertEquals(filteredFromScratch(model, meierOrKurz), model.getFilteredPatientList());
+
+        Comparator<Patient> byWard = Comparator.comparing((Patient patient) -> patient.getWard().toString());
+        model.updateFilteredPatientList(meierOrKurz.withIndex(model.getPatientNameIndex()), byWard);
+        assertEquals(filteredFromScratch(model, meierOrKurz).stream().sorted(byWard).toList(),
+                model.getFilteredPatientList());
+    }
+
+    private static List<Patient> filteredFromScratch(Model model, Predicate<Patient> predicate) {
+        return model.getAddressBook().getPatientList().stream().filter(predicate).toList();
+    }
+
+    @Test
+    public void getSessionsBetween_patientsReplacedAndRemoved_reflectsCurrentSessions() {
+        CaringSession monday = new CaringSessionBuilder().withDate("2025-10-20").withTime("09:00").build();
+        CaringSession wednesday = new CaringSessionBuilder().withDate("2025-10-22").withTime("09:00").build();
+        Patient alice = ALICE.withCaringSessionList(List.of(monday));
+        Patient benson = BENSON.withCaringSessionList(List.of(wednesday));
+        modelManager.addPatient(alice);
+        modelManager.addPatient(benson);
+
+        Patient editedAlice = alice.withCaringSessionList(List.of(monday, wednesday));
+        modelManager.setPatient(alice, editedAlice);
+        // sessions at the same time are in the order their patients were last added or replaced
+        assertEquals(List.of(new PatientCaringSession(benson, wednesday),
+                new PatientCaringSession(editedAlice, wednesday)),
+                modelManager.getSessionsBetween(LocalDate.of(2025, 10, 21), LocalDate.of(2025, 10, 26)));
+
+        modelManager.deletePatient(benson);
+        assertEquals(List.of(new PatientCaringSession(editedAlice, monday),
+                new PatientCaringSession(editedAlice, wednesday)),
+                modelManager.getSessionsBetween(LocalDate.of(2025, 10, 20), LocalDate.of(2025, 10, 26)));
+
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.getSessionsBetween(LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void getOverdueSessions_completedAndFutureSessions_excluded() {
+        CaringSession missed = new CaringSessionBuilder().withDate("2025-10-20").withTime("09:00").build();
+        CaringSession done = new CaringSessionBuilder(missed).withTime("10:00")
+                .withStatus(SessionStatus.COMPLETED).build();
+        CaringSession upcoming = new CaringSessionBuilder().withDate("2025-10-21").withTime("09:00").build();
+        Patient alice = ALICE.withCaringSessionList(List.of(missed, done, upcoming));
+        modelManager.addPatient(alice);
+
+        assertEquals(List.of(new PatientCaringSession(alice, missed)),
+                modelManager.getOverdueSessions(LocalDateTime.of(2025, 10, 21, 8, 0)));
+
+        Patient caughtUp = alice.withCaringSessionList(List.of(done, upcoming));
+        modelManager.setPatient(alice, caughtUp);
+        assertTrue(modelManager.getOverdueSessions(LocalDateTime.of(2025, 10, 21, 8, 0)).isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build();
@@ -0,0 +1,276 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.AMY;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.NextOfKinBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final long LARGE_BUDGET = 1 << 20;
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(getTypicalAddressBook(), LARGE_BUDGET);
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, VersionedAddressBook.MESSAGE_NEGATIVE_BUDGET, () ->
+                new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void constructor_initialState_nothingToUndoOrRedo() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_unchangedAddressBook_noNewState() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+
+        // replaced with the same patients
+        versionedAddressBook.setPatients(versionedAddressBook.getPatientList());
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undoAndRedo_committedChanges_restoresSamePatients() {
+        List<Patient> initialPatients = versionedAddressBook.getPatientList();
+        versionedAddressBook.addPatient(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePatient(ALICE);
+        versionedAddressBook.commit();
+        List<Patient> latestPatients = versionedAddressBook.getPatientList();
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPatient(ALICE));
+        assertTrue(versionedAddressBook.hasPatient(AMY));
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(initialPatients, versionedAddressBook.getPatientList());
+        assertSame(initialPatients.get(0), versionedAddressBook.getPatientList().get(0));
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(latestPatients, versionedAddressBook.getPatientList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsChanges() {
+        versionedAddressBook.addPatient(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPatient(BOB);
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasPatient(AMY));
+        assertFalse(versionedAddressBook.hasPatient(BOB));
+    }
+
+    @Test
+    public void undoAndRedo_changesInMiddleOfList_keepsIndexesInSync() {
+        List<Patient> initialPatients = versionedAddressBook.getPatientList();
+        versionedAddressBook.removePatient(CARL);
+        versionedAddressBook.commit();
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Benson Lee").build();
+        versionedAddressBook.setPatient(BENSON, editedBenson);
+        versionedAddressBook.addPatient(AMY);
+        versionedAddressBook.commit();
+        List<Patient> latestPatients = versionedAddressBook.getPatientList();
+
+        versionedAddressBook.undo();
+        assertIndexesInSync(versionedAddressBook);
+        assertFalse(versionedAddressBook.hasPatient(AMY));
+        assertFalse(versionedAddressBook.hasPatient(editedBenson));
+        versionedAddressBook.undo();
+        assertEquals(initialPatients, versionedAddressBook.getPatientList());
+        assertIndexesInSync(versionedAddressBook);
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(latestPatients, versionedAddressBook.getPatientList());
+        assertIndexesInSync(versionedAddressBook);
+        assertFalse(versionedAddressBook.hasPatient(CARL));
+    }
+
+    @Test
+    public void undo_uncommittedChangesAfterCommit_restoresEarlierState() {
+        List<Patient> initialPatients = versionedAddressBook.getPatientList();
+        versionedAddressBook.addPatient(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePatient(BENSON);
+        versionedAddressBook.addPatient(BOB);
+
+        assertTrue(versionedAddressBook.undo().isPresent());
+        assertEquals(initialPatients, versionedAddressBook.getPatientList());
+        assertIndexesInSync(versionedAddressBook);
+        assertFalse(versionedAddressBook.hasPatient(BOB));
+
+        versionedAddressBook.redo();
+        versionedAddressBook.removePatient(AMY);
+        assertTrue(versionedAddressBook.undo().isEmpty());
+        assertEquals(initialPatients, versionedAddressBook.getPatientList());
+        assertIndexesInSync(versionedAddressBook);
+    }
+
+    @Test
+    public void undoAndRedo_randomChanges_restoresCommittedStates() {
+        Random random = new Random(2103);
+        List<List<Patient>> committedStates = new ArrayList<>();
+        committedStates.add(versionedAddressBook.getPatientList());
+        int statePointer = 0;
+        for (int i = 0; i < 300; i++) {
+            List<Patient> patients = versionedAddressBook.getPatientList();
+            int operation = random.nextInt(6);
+            if (operation == 0 || patients.isEmpty()) {
+                versionedAddressBook.addPatient(new PatientBuilder().withName("Patient " + i)
+                        .withIC(String.format("S%07dA", i)).build());
+            } else if (operation == 1) {
+                versionedAddressBook.removePatient(patients.get(random.nextInt(patients.size())));
+            } else if (operation == 2) {
+                Patient patient = patients.get(random.nextInt(patients.size()));
+                versionedAddressBook.setPatient(patient, new PatientBuilder(patient).withWard(i + 1 + "A").build());
+            } else if (operation == 3) {
+                versionedAddressBook.commit();
+                if (!patients.equals(committedStates.get(statePointer))) {
+                    committedStates.subList(statePointer + 1, committedStates.size()).clear();
+                    committedStates.add(patients);
+                    statePointer++;
+                }
+            } else if (operation == 4 && versionedAddressBook.canUndo()) {
+                versionedAddressBook.undo();
+                assertEquals(committedStates.get(--statePointer), versionedAddressBook.getPatientList());
+            } else if (operation == 5 && versionedAddressBook.canRedo()) {
+                versionedAddressBook.redo();
+                assertEquals(committedStates.get(++statePointer), versionedAddressBook.getPatientList());
+            }
+            assertIndexesInSync(versionedAddressBook);
+        }
+    }
+
+    @Test
+    public void commit_changesUndoneBeforeCommit_noNewState() {
+        versionedAddressBook.addPatient(AMY);
+        versionedAddressBook.removePatient(AMY);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_dropsUndoneStates() {
+        versionedAddressBook.addPatient(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        // undoing is not a change to commit
+        versionedAddressBook.commit();
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.addPatient(BOB);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasPatient(AMY));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_zeroBudget_keepsNoHistory() {
+        VersionedAddressBook withoutHistory = new VersionedAddressBook(getTypicalAddressBook(), 0);
+        withoutHistory.addPatient(AMY);
+        withoutHistory.commit();
+
+        assertFalse(withoutHistory.canUndo());
+        assertEquals(0, withoutHistory.getHistoryBytes());
+        assertTrue(withoutHistory.hasPatient(AMY));
+    }
+
+    @Test
+    public void commit_entryAddedToPatient_chargesOnlyUnsharedEntries() {
+        List<NextOfKin> nextOfKins = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            nextOfKins.add(new NextOfKinBuilder().withName("Kin " + (char) ('a' + i % 26) + " " + i).build());
+        }
+        Patient patient = new PatientBuilder().withName("Harriet Lim").build().withNextOfKinList(nextOfKins);
+        versionedAddressBook.addPatient(patient);
+        versionedAddressBook.commit();
+        long historyBytesBefore = versionedAddressBook.getHistoryBytes();
+
+        Patient editedPatient = patient.withNextOfKinAdded(new NextOfKinBuilder().withName("Kin New").build());
+        versionedAddressBook.setPatient(patient, editedPatient);
+        versionedAddressBook.commit();
+
+        // the 200 next-of-kin are shared with the edited patient, so they are not charged to the history
+        long chargedBytes = versionedAddressBook.getHistoryBytes() - historyBytesBefore;
+        assertTrue(chargedBytes >= VersionedAddressBook.ESTIMATED_PATIENT_BYTES);
+        assertTrue(chargedBytes < 10 * VersionedAddressBook.ESTIMATED_ENTRY_BYTES);
+
+        // the deleted patient's next-of-kin are held only by the history
+        versionedAddressBook.removePatient(editedPatient);
+        versionedAddressBook.commit();
+        assertTrue(versionedAddressBook.getHistoryBytes() - historyBytesBefore - chargedBytes
+                > 200 * VersionedAddressBook.ESTIMATED_ENTRY_BYTES);
+    }
+
+    @Test
+    public void commit_manyChanges_historyStaysWithinBudget() {
+        long budget = 16 * VersionedAddressBook.ESTIMATED_PATIENT_BYTES;
+        VersionedAddressBook bounded = new VersionedAddressBook(getTypicalAddressBook(), budget);
+        Patient patient = new PatientBuilder().withName("Harriet Lim").build();
+        bounded.addPatient(patient);
+        bounded.commit();
+
+        for (int i = 0; i < 1000; i++) {
+            Patient editedPatient = new PatientBuilder(patient).withWard(i % 2 == 0 ? "3B" : "2A").build();
+            bounded.setPatient(patient, editedPatient);
+            bounded.commit();
+            patient = editedPatient;
+            assertTrue(bounded.getHistoryBytes() <= budget);
+        }
+
+        // the most recent changes can still be undone, but not all the way back to the initial state
+        int undoCount = 0;
+        while (bounded.canUndo()) {
+            bounded.undo();
+            undoCount++;
+        }
+        assertTrue(undoCount > 1);
+        assertTrue(undoCount < 1000);
+        assertTrue(bounded.hasPatient(patient));
+    }
+
+    private static void assertIndexesInSync(AddressBook addressBook) {
+        List<Patient> patients = addressBook.getPatientList();
+        for (int i = 0; i < patients.size(); i++) {
+            Patient patient = patients.get(i);
+            assertEquals(i, addressBook.positionOf(patient));
+            assertEquals(Optional.of(patient),
+                    addressBook.getPatientAttributeIndex().getPatientWithIC(patient.getIC()));
+            String firstNameWord = patient.getName().fullName.split(" ")[0];
+            assertTrue(addressBook.getPatientNameIndex().getPatientsWithNameWord(firstNameWord).contains(patient));
+        }
+    }
+}
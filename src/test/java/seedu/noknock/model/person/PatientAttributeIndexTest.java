@@ -0,0 +1,106 @@
+package seedu.noknock.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.tag.Tag;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class PatientAttributeIndexTest {
+
+    private final UniquePatientList uniquePatientList = new UniquePatientList();
+    private final PatientAttributeIndex index = uniquePatientList.getAttributeIndex();
+
+    @Test
+    public void getPatientWithIC_nullIc_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getPatientWithIC(null));
+    }
+
+    @Test
+    public void getters_addedPatients_lookUpByIcWardAndTag() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(BOB);
+
+        assertEquals(Optional.of(BENSON), index.getPatientWithIC(new IC(BENSON.getIC().toString())));
+        assertEquals(Optional.empty(), index.getPatientWithIC(CARL.getIC()));
+        assertEquals(Set.of(ALICE, BENSON), index.getPatientsInWard(new Ward("2A")));
+        assertEquals(Set.of(ALICE, BENSON), index.getPatientsWithTag(new Tag("friends")));
+        assertEquals(Set.of(BOB), index.getPatientsInWard(new Ward("2B")));
+        assertEquals(Set.of(BENSON), index.getPatientsWithTag(new Tag("owesMoney")));
+        assertTrue(index.getPatientsWithTag(new Tag("Friends")).isEmpty());
+    }
+
+    @Test
+    public void setPatient_editedAttributes_reindexesPatient() {
+        uniquePatientList.add(ALICE);
+        Patient editedAlice = new PatientBuilder(ALICE).withIC("S7654321Z").withWard("3B").withTags("diabetic")
+                .build();
+
+        uniquePatientList.setPatient(ALICE, editedAlice);
+
+        assertEquals(Optional.empty(), index.getPatientWithIC(ALICE.getIC()));
+        assertEquals(Optional.of(editedAlice), index.getPatientWithIC(new IC("S7654321Z")));
+        assertTrue(index.getPatientsInWard(new Ward("2A")).isEmpty());
+        assertEquals(Set.of(editedAlice), index.getPatientsInWard(new Ward("3B")));
+        assertTrue(index.getPatientsWithTag(new Tag("friends")).isEmpty());
+        assertEquals(Set.of(editedAlice), index.getPatientsWithTag(new Tag("diabetic")));
+    }
+
+    @Test
+    public void getPatientsWith_icWardAndTags_returnsPatientsWithAllOfThem() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(BOB);
+
+        assertEquals(Set.of(ALICE, BENSON), index.getPatientsWith(null, new Ward("2A"), Set.of(new Tag("friends"))));
+        assertEquals(Set.of(BENSON), index.getPatientsWith(null, null,
+                Set.of(new Tag("friends"), new Tag("owesMoney"))));
+        assertEquals(Set.of(BENSON), index.getPatientsWith(BENSON.getIC(), new Ward("2A"), Set.of()));
+        assertTrue(index.getPatientsWith(BENSON.getIC(), new Ward("2B"), Set.of()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.getPatientsWith(null, null, Set.of()));
+    }
+
+    @Test
+    public void remove_equalPatient_removesStoredPatient() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+
+        uniquePatientList.remove(new PatientBuilder(ALICE).build());
+
+        assertEquals(Optional.empty(), index.getPatientWithIC(ALICE.getIC()));
+        assertEquals(Set.of(BENSON), index.getPatientsInWard(new Ward("2A")));
+        assertEquals(Set.of(BENSON), index.getPatientsWithTag(new Tag("friends")));
+    }
+
+    @Test
+    public void setPatients_replacementList_rebuildsIndex() {
+        uniquePatientList.add(ALICE);
+
+        uniquePatientList.setPatients(List.of(BENSON, BOB));
+
+        assertEquals(Optional.empty(), index.getPatientWithIC(ALICE.getIC()));
+        assertEquals(Set.of(BENSON), index.getPatientsInWard(new Ward("2A")));
+        assertEquals(Set.of(BENSON), index.getPatientsWithTag(new Tag("friends")));
+        assertEquals(Set.of(BOB), index.getPatientsWithTag(new Tag("husband")));
+    }
+
+    @Test
+    public void getPatientsInWard_equalPatientNotInList_doesNotContainIt() {
+        uniquePatientList.add(ALICE);
+        assertTrue(index.getPatientsInWard(new Ward("2A")).contains(ALICE));
+        assertFalse(index.getPatientsInWard(new Ward("2A")).contains(new PatientBuilder(ALICE).build()));
+    }
+}
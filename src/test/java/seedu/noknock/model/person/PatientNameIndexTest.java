@@ -0,0 +1,104 @@
+package seedu.noknock.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.HOON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.testutil.NextOfKinBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class PatientNameIndexTest {
+
+    private final UniquePatientList uniquePatientList = new UniquePatientList();
+    private final PatientNameIndex index = uniquePatientList.getNameIndex();
+
+    @Test
+    public void getPatientsWithNameWord_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getPatientsWithNameWord(null));
+    }
+
+    @Test
+    public void getPatientsWithNameWord_addedPatients_matchesWholeWordsIgnoringCase() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(DANIEL);
+
+        assertEquals(Set.of(BENSON, DANIEL), index.getPatientsWithNameWord("MEIER"));
+        assertEquals(Set.of(ALICE), index.getPatientsWithNameWord(" pauline "));
+        assertTrue(index.getPatientsWithNameWord("Mei").isEmpty());
+    }
+
+    @Test
+    public void getPatientsWithNextOfKinNameWord_addedPatient_matchesAnyNextOfKin() {
+        Patient patient = new PatientBuilder(ALICE).build().withNextOfKinList(List.of(
+                new NextOfKinBuilder().withName("Jane Tan").build(),
+                new NextOfKinBuilder().withName("John Lim").build()));
+        uniquePatientList.add(patient);
+
+        assertEquals(Set.of(patient), index.getPatientsWithNextOfKinNameWord("lim"));
+        assertTrue(index.getPatientsWithNextOfKinNameWord("Jane").contains(patient));
+        assertFalse(index.getPatientsWithNameWord("Jane").contains(patient));
+    }
+
+    @Test
+    public void getPatientsWithAnyNameWord_severalWords_returnsPatientsWithAnyOfThem() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(HOON);
+
+        assertEquals(Set.of(ALICE, BENSON, HOON), index.getPatientsWithAnyNameWord(List.of("ALICE", "meier", "x")));
+        assertTrue(index.getPatientsWithAnyNameWord(List.of()).isEmpty());
+        assertTrue(index.getPatientsWithAnyNextOfKinNameWord(List.of("alice")).isEmpty());
+    }
+
+    @Test
+    public void setPatient_editedNames_reindexesPatient() {
+        uniquePatientList.add(ALICE);
+        Patient editedAlice = new PatientBuilder(ALICE).withName("Alice Tan").build()
+                .withNextOfKinList(List.of(new NextOfKinBuilder().withName("Bob Tan").build()));
+
+        uniquePatientList.setPatient(ALICE, editedAlice);
+
+        assertTrue(index.getPatientsWithNameWord("Pauline").isEmpty());
+        assertEquals(Set.of(editedAlice), index.getPatientsWithNameWord("Alice"));
+        assertEquals(Set.of(editedAlice), index.getPatientsWithNextOfKinNameWord("bob"));
+    }
+
+    @Test
+    public void remove_equalPatient_removesStoredPatient() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+
+        uniquePatientList.remove(new PatientBuilder(ALICE).build());
+
+        assertTrue(index.getPatientsWithNameWord("Alice").isEmpty());
+        assertEquals(Set.of(BENSON), index.getPatientsWithNameWord("Benson"));
+    }
+
+    @Test
+    public void setPatients_replacementList_rebuildsIndex() {
+        uniquePatientList.add(ALICE);
+
+        uniquePatientList.setPatients(List.of(BENSON, HOON));
+
+        assertTrue(index.getPatientsWithNameWord("Alice").isEmpty());
+        assertEquals(Set.of(BENSON, HOON), index.getPatientsWithNameWord("Meier"));
+    }
+
+    @Test
+    public void getPatientsWithNameWord_equalPatientNotInList_doesNotContainIt() {
+        uniquePatientList.add(ALICE);
+        assertTrue(index.getPatientsWithNameWord("alice").contains(ALICE));
+        assertFalse(index.getPatientsWithNameWord("alice").contains(new PatientBuilder(ALICE).build()));
+    }
+}
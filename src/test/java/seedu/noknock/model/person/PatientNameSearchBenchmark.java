@@ -0,0 +1,61 @@
+package seedu.noknock.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.FindPatientCommand;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.testutil.Benchmark;
+
+/**
+ * Compares {@link PatientNameSearch}, which {@code find-patient} uses, with filtering every patient with the
+ * whole-word {@link PatientNameContainsKeywordsPredicate} it replaced.
+ */
+@Tag(Benchmark.TAG)
+public class PatientNameSearchBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int RUNS = 15;
+
+    @Test
+    public void search_growingAddressBook_comparedWithWordMatchPredicate() {
+        for (int size : SIZES) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPatients(Benchmark.generatePatients(size, 0, size));
+            List<Patient> patients = addressBook.getPatientList();
+            Patient target = patients.stream().skip(size / 2)
+                    .filter(patient -> patient.getName().fullName.indexOf(' ') >= 6).findFirst().get();
+            String nameWord = target.getName().fullName.split(" ")[0];
+            PatientNameSearch search = new PatientNameSearch(addressBook.getPatientNameIndex());
+
+            PatientNameContainsKeywordsPredicate predicate =
+                    new PatientNameContainsKeywordsPredicate(List.of(nameWord));
+            Benchmark.report("find-patient", "word-match predicate", size, Benchmark.medianNanos(RUNS, () ->
+                    patients.stream().filter(predicate).toList()));
+            benchmarkSearch(search, "search, exact", nameWord, target, size);
+            benchmarkSearch(search, "search, prefix", nameWord.substring(0, 3), target, size);
+            benchmarkSearch(search, "search, misspelt", misspell(nameWord), target, size);
+        }
+    }
+
+    private static void benchmarkSearch(PatientNameSearch search, String variant, String keyword, Patient target,
+            int size) {
+        int maxResults = FindPatientCommand.MAX_RESULTS + 1;
+        List<Patient> results = search.search(List.of(keyword), maxResults);
+        assertTrue(results.contains(target) || results.size() == maxResults);
+        Benchmark.report("find-patient", variant, size, Benchmark.medianNanos(RUNS, () ->
+                search.search(List.of(keyword), maxResults)));
+    }
+
+    /**
+     * Returns {@code word} with its last two letters swapped.
+     */
+    private static String misspell(String word) {
+        int last = word.length() - 1;
+        return word.substring(0, last - 1) + word.charAt(last) + word.charAt(last - 1);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.noknock.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.testutil.PatientBuilder;
+
+public class PatientNameSearchTest {
+
+    private final UniquePatientList patients = new UniquePatientList();
+    private final PatientNameSearch search = new PatientNameSearch(patients.getNameIndex());
+
+    private final Patient meier = new PatientBuilder().withName("Daniel Meier").withIC("S0000001A").build();
+    private final Patient meierhof = new PatientBuilder().withName("Anna Meierhof").withIC("S0000002A").build();
+    private final Patient meyer = new PatientBuilder().withName("Elle Meyer").withIC("S0000003A").build();
+    private final Patient kurz = new PatientBuilder().withName("Carl Kurz").withIC("S0000004A").build();
+
+    @BeforeEach
+    public void setUp() {
+        patients.setPatients(List.of(meyer, kurz, meierhof, meier));
+    }
+
+    @Test
+    public void search_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> search.search(null, 10));
+    }
+
+    @Test
+    public void search_singleKeyword_exactThenPrefixThenMisspelt() {
+        assertEquals(List.of(meier, meierhof, meyer), search.search(List.of("MEIER"), 10));
+    }
+
+    @Test
+    public void search_multipleKeywords_ranksBySumOfScores() {
+        // "Elle Meyer" matches both keywords, "Daniel Meier" only the exact one
+        assertEquals(List.of(meyer, meier, meierhof), search.search(List.of("meier", "elle"), 10));
+    }
+
+    @Test
+    public void search_equalScores_orderedByName() {
+        Patient annaKurz = new PatientBuilder().withName("Anna Kurz").withIC("S0000005A").build();
+        patients.add(annaKurz);
+        assertEquals(List.of(annaKurz, kurz), search.search(List.of("kurz"), 10));
+    }
+
+    @Test
+    public void search_moreMatchesThanMaxResults_returnsBestMatches() {
+        assertEquals(List.of(meier, meierhof), search.search(List.of("meier"), 2));
+    }
+
+    @Test
+    public void search_shortKeyword_noMisspeltMatches() {
+        // "kurz" is one mistake from "kur", but keywords of three letters must be spelt correctly
+        assertTrue(search.search(List.of("kur"), 10).contains(kurz)); // prefix
+        assertTrue(search.search(List.of("kuz"), 10).isEmpty());
+    }
+
+    @Test
+    public void search_wordsSharingPrefixes_findsEachWordWithinMaxEditDistance() {
+        List<String> words = List.of("bensen", "bensonn", "bentson", "binson", "bxnsxn", "benso", "bens", "ben");
+        for (int i = 0; i < words.size(); i++) {
+            patients.add(new PatientBuilder().withName("Amy " + words.get(i))
+                    .withIC(String.format("T%07dA", i)).build());
+        }
+
+        // the words are compared with "benson" in order, skipping those after a prefix that is already too far
+        List<String> foundWords = search.search(List.of("benson"), 20).stream()
+                .map(patient -> patient.getName().fullName.substring("Amy ".length()))
+                .toList();
+        assertEquals(List.of("bensonn", "bensen", "benso", "bentson", "binson"), foundWords);
+    }
+
+    @Test
+    public void search_editedPatient_findsNewName() {
+        Patient renamed = new PatientBuilder(kurz).withName("Carl Kunz").build();
+        patients.setPatient(kurz, renamed);
+        assertEquals(List.of(renamed), search.search(List.of("kunz"), 10));
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(0, PatientNameSearch.getMaxEditDistance("abc"));
+        assertEquals(1, PatientNameSearch.getMaxEditDistance("abcd"));
+        assertEquals(1, PatientNameSearch.getMaxEditDistance("abcdef"));
+        assertEquals(2, PatientNameSearch.getMaxEditDistance("abcdefg"));
+    }
+}
@@ -11,8 +11,19 @@ import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import static seedu.noknock.testutil.TypicalPatients.BOB;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.testutil.NextOfKinBuilder;
 import seedu.noknock.testutil.PatientBuilder;
 
 public class PatientTest {
@@ -23,6 +34,150 @@ public class PatientTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getCaringSessionList_unsortedSessions_returnsSessionsByDateAndTime() {
+        CaringSession late = createSession("Bathing", "2025-10-21", "08:00");
+        CaringSession early = createSession("Medication", "2025-10-20", "18:00");
+        CaringSession earlier = createSession("Feeding", "2025-10-20", "07:30");
+        CaringSession sameTime = createSession("Checkup", "2025-10-20", "07:30");
+        Patient patient = ALICE.withCaringSessionList(List.of(late, early, earlier, sameTime));
+
+        assertEquals(List.of(earlier, sameTime, early, late), patient.getCaringSessionList());
+        assertTrue(patient.getCaringSessionList() == patient.getCaringSessionList());
+        assertEquals(patient.getCaringSessionList(),
+                patient.withNextOfKinList(List.of()).getCaringSessionList());
+    }
+
+    @Test
+    public void getCaringSessionList_modifyList_throwsUnsupportedOperationException() {
+        Patient patient = ALICE.withCaringSessionList(List.of(createSession("Bathing", "2025-10-21", "08:00")));
+        assertThrows(UnsupportedOperationException.class, () -> patient.getCaringSessionList().remove(0));
+    }
+
+    @Test
+    public void hasOverlappingSession() {
+        Patient patient = ALICE.withCaringSessionList(List.of(
+                createSession("Bathing", "2025-10-21", "08:00"), createSession("Feeding", "2025-10-20", "07:30")));
+
+        // same date and time, different care type -> returns true
+        assertTrue(patient.hasOverlappingSession(createSession("Medication", "2025-10-21", "08:00")));
+
+        // same time on another day -> returns false
+        assertFalse(patient.hasOverlappingSession(createSession("Medication", "2025-10-22", "08:00")));
+
+        // before, between and after all sessions -> returns false
+        assertFalse(patient.hasOverlappingSession(createSession("Medication", "2025-10-19", "08:00")));
+        assertFalse(patient.hasOverlappingSession(createSession("Medication", "2025-10-20", "12:00")));
+        assertFalse(patient.hasOverlappingSession(createSession("Medication", "2025-10-21", "08:01")));
+
+        // no sessions -> returns false
+        assertFalse(ALICE.hasOverlappingSession(createSession("Medication", "2025-10-21", "08:00")));
+    }
+
+    @Test
+    public void hasSessionDuring() {
+        Patient patient = ALICE.withCaringSessionList(List.of(createSession("Bathing", "2025-10-21", "08:00")));
+        LocalDateTime sessionStart = LocalDateTime.of(2025, 10, 21, 8, 0);
+
+        // interval contains the session start -> returns true
+        assertTrue(patient.hasSessionDuring(sessionStart.minusMinutes(30), Duration.ofHours(1)));
+        assertTrue(patient.hasSessionDuring(sessionStart, Duration.ofMinutes(1)));
+        assertTrue(patient.hasSessionDuring(sessionStart, Duration.ZERO));
+
+        // interval ends at the session start -> returns false
+        assertFalse(patient.hasSessionDuring(sessionStart.minusMinutes(30), Duration.ofMinutes(30)));
+
+        // interval starts after the session start -> returns false
+        assertFalse(patient.hasSessionDuring(sessionStart.plusMinutes(1), Duration.ofHours(1)));
+
+        // negative duration -> throws IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> patient.hasSessionDuring(sessionStart,
+                Duration.ofMinutes(-1)));
+    }
+
+    @Test
+    public void hasOverlappingSession_manyNewSessions() {
+        Patient patient = ALICE.withCaringSessionList(List.of(createSession("Bathing", "2025-10-21", "08:00")));
+
+        // overlap between new sessions -> returns true
+        assertTrue(patient.hasOverlappingSession(List.of(createSession("Medication", "2025-10-22", "08:00"),
+                createSession("Feeding", "2025-10-23", "08:00"), createSession("Checkup", "2025-10-22", "08:00"))));
+
+        // overlap with an existing session -> returns true
+        assertTrue(patient.hasOverlappingSession(List.of(createSession("Medication", "2025-10-22", "08:00"),
+                createSession("Checkup", "2025-10-21", "08:00"))));
+
+        // no overlaps -> returns false
+        assertFalse(patient.hasOverlappingSession(List.of(createSession("Medication", "2025-10-22", "08:00"),
+                createSession("Checkup", "2025-10-21", "09:00"))));
+    }
+
+    @Test
+    public void withCaringSessionsAdded_manySessions_mergesInOrder() {
+        CaringSession first = createSession("Bathing", "2025-10-20", "08:00");
+        CaringSession third = createSession("Feeding", "2025-10-22", "08:00");
+        Patient patient = ALICE.withCaringSessionList(List.of(third, first));
+        CaringSession second = createSession("Medication", "2025-10-21", "08:00");
+        CaringSession fourth = createSession("Checkup", "2025-10-23", "08:00");
+        CaringSession zeroth = createSession("Checkup", "2025-10-19", "08:00");
+
+        Patient updated = patient.withCaringSessionsAdded(List.of(fourth, second, zeroth));
+
+        assertEquals(List.of(zeroth, first, second, third, fourth), updated.getCaringSessionList());
+        assertEquals(List.of(first, third), patient.getCaringSessionList());
+    }
+
+    @Test
+    public void withCaringSessionReplaced_sessionMoved_keepsSessionsSorted() {
+        CaringSession first = createSession("Bathing", "2025-10-20", "08:00");
+        CaringSession second = createSession("Feeding", "2025-10-21", "08:00");
+        CaringSession third = createSession("Medication", "2025-10-22", "08:00");
+        Patient patient = ALICE.withCaringSessionList(List.of(first, second, third));
+        CaringSession movedLater = createSession("Bathing", "2025-10-23", "08:00");
+        CaringSession atSameTime = createSession("Checkup", "2025-10-21", "08:00");
+
+        assertEquals(List.of(second, third, movedLater),
+                patient.withCaringSessionReplaced(0, movedLater).getCaringSessionList());
+
+        // a session at the same time as another keeps its position relative to it
+        assertEquals(List.of(atSameTime, second, third),
+                patient.withCaringSessionReplaced(0, atSameTime).getCaringSessionList());
+        assertEquals(List.of(first, second, atSameTime),
+                patient.withCaringSessionReplaced(2, atSameTime).getCaringSessionList());
+
+        assertEquals(List.of(first, third), patient.withCaringSessionRemoved(1).getCaringSessionList());
+        assertEquals(List.of(first, second, third), patient.getCaringSessionList());
+    }
+
+    @Test
+    public void withNextOfKin_changes_originalUnchanged() {
+        NextOfKin son = new NextOfKinBuilder().withName("Oad").build();
+        NextOfKin daughter = new NextOfKinBuilder().withName("Ann").build();
+        Patient patient = ALICE.withNextOfKinList(List.of(son));
+
+        assertEquals(List.of(son, daughter), patient.withNextOfKinAdded(daughter).getNextOfKinList());
+        assertEquals(List.of(daughter), patient.withNextOfKinReplaced(0, daughter).getNextOfKinList());
+        assertEquals(List.of(), patient.withNextOfKinRemoved(0).getNextOfKinList());
+        assertEquals(List.of(son), patient.getNextOfKinList());
+        assertThrows(UnsupportedOperationException.class, () -> patient.getNextOfKinList().add(daughter));
+    }
+
+    @Test
+    public void withCaringSessionsAdded_manyDailySessions_overlapsFound() {
+        List<CaringSession> sessions = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int day = 0; day < 20_000; day++) {
+            sessions.add(new CaringSession(new CareType("Medication"), new Note(""),
+                    new Date(start.toLocalDate().plusDays(day)), new Time(start.toLocalTime())));
+        }
+        Patient patient = ALICE.withCaringSessionsAdded(sessions);
+
+        for (CaringSession session : sessions) {
+            assertTrue(patient.hasOverlappingSession(session));
+        }
+        assertFalse(patient.hasSessionDuring(start.plusMinutes(1), Duration.ofHours(23)));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -92,4 +247,8 @@ public class PatientTest {
                 + ", ic=" + ALICE.getIC() + ", tags=" + ALICE.getTags() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    private static CaringSession createSession(String careType, String date, String time) {
+        return new CaringSession(new CareType(careType), new Note(""), new Date(date), new Time(time));
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.noknock.model.person;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.testutil.Benchmark;
+
+/**
+ * Times replacing all patients of a {@link UniquePatientList}, as every load and {@code resetData} does, against the
+ * nested-loop uniqueness check it used to make before replacing them.
+ */
+@Tag(Benchmark.TAG)
+public class UniquePatientListBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 50_000, 100_000};
+    /** Largest size the nested-loop check is timed at, as it takes minutes beyond that. */
+    private static final int MAX_NESTED_LOOP_SIZE = 10_000;
+    private static final int RUNS = 5;
+
+    @Test
+    public void setPatients_growingList_linearInSize() {
+        for (int size : SIZES) {
+            List<Patient> patients = Benchmark.generatePatients(size, 0, size);
+            UniquePatientList uniquePatientList = new UniquePatientList();
+            Benchmark.report("setPatients", "hashed single pass", size, Benchmark.medianNanos(RUNS, () ->
+                    uniquePatientList.setPatients(patients)));
+            if (size <= MAX_NESTED_LOOP_SIZE) {
+                Benchmark.report("setPatients", "nested-loop check only", size, Benchmark.medianNanos(RUNS, () ->
+                        patientsAreUnique(patients)));
+            }
+        }
+    }
+
+    /**
+     * The uniqueness check {@code setPatients} made before the single pass, kept here to compare against.
+     */
+    private static boolean patientsAreUnique(List<Patient> patients) {
+        for (int i = 0; i < patients.size() - 1; i++) {
+            for (int j = i + 1; j < patients.size(); j++) {
+                if (patients.get(i).isSamePerson(patients.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -8,12 +8,14 @@ import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import static seedu.noknock.testutil.TypicalPatients.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.noknock.model.person.exceptions.DuplicateIcException;
 import seedu.noknock.model.person.exceptions.DuplicatePatientException;
 import seedu.noknock.model.person.exceptions.PatientNotFoundException;
 import seedu.noknock.testutil.PatientBuilder;
@@ -57,6 +59,13 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.add(ALICE));
     }
 
+    @Test
+    public void add_patientWithSameIc_throwsDuplicateIcException() {
+        uniquePatientList.add(ALICE);
+        Patient otherWithSameIc = new PatientBuilder(BOB).withIC(ALICE.getIC().toString()).build();
+        assertThrows(DuplicateIcException.class, () -> uniquePatientList.add(otherWithSameIc));
+    }
+
     @Test
     public void setPatient_nullTargetPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.setPatient(null, ALICE));
@@ -108,6 +117,19 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatient(ALICE, BOB));
     }
 
+    @Test
+    public void setPatient_editedPatientHasIcOfAnotherPatient_throwsDuplicateIcException() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BOB);
+        Patient editedAlice = new PatientBuilder(ALICE).withIC(BOB.getIC().toString()).build();
+        assertThrows(DuplicateIcException.class, () -> uniquePatientList.setPatient(ALICE, editedAlice));
+
+        // keeping the same IC
+        Patient movedAlice = new PatientBuilder(ALICE).withWard("3C").build();
+        uniquePatientList.setPatient(ALICE, movedAlice);
+        assertEquals(List.of(movedAlice, BOB), uniquePatientList.asUnmodifiableList());
+    }
+
     @Test
     public void remove_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.remove(null));
@@ -126,6 +148,34 @@ public class UniquePatientListTest {
         assertEquals(expectedUniquePatientList, uniquePatientList);
     }
 
+    @Test
+    public void remove_patientWithSameIdentityButDifferentFields_throwsPatientNotFoundException() {
+        uniquePatientList.add(ALICE);
+        Patient editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_HUSBAND)
+                .build();
+        assertThrows(PatientNotFoundException.class, () -> uniquePatientList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_existingPatient_keepsRemainingPatientsReachable() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BOB);
+        uniquePatientList.remove(ALICE);
+        assertFalse(uniquePatientList.contains(ALICE));
+        Patient editedBob = new PatientBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePatientList.setPatient(BOB, editedBob);
+        assertEquals(Collections.singletonList(editedBob), uniquePatientList.asUnmodifiableList());
+    }
+
+    @Test
+    public void setPatient_editedPatientHasDifferentIdentity_releasesOldIdentity() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setPatient(ALICE, BOB);
+        assertFalse(uniquePatientList.contains(ALICE));
+        uniquePatientList.add(ALICE);
+        assertTrue(uniquePatientList.contains(BOB));
+    }
+
     @Test
     public void setPatients_nullUniquePatientList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.setPatients((UniquePatientList) null));
@@ -162,13 +212,48 @@ public class UniquePatientListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setPatients_listWithDuplicatePatients_reportsAllDuplicateIdentities() {
+        Patient editedBob = new PatientBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        List<Patient> listWithDuplicatePatients = Arrays.asList(ALICE, BOB, ALICE, editedBob, ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: " + ALICE.getName() + ", "
+                + BOB.getName();
+        assertThrows(DuplicatePatientException.class, expectedMessage, () ->
+                uniquePatientList.setPatients(listWithDuplicatePatients));
+        assertTrue(uniquePatientList.asUnmodifiableList().isEmpty());
+    }
+
+    @Test
+    public void setPatients_listWithSameIcs_reportsAllDuplicateIcs() {
+        Patient otherWithAliceIc = new PatientBuilder().withName("Other Alice").withIC(ALICE.getIC().toString())
+                .build();
+        Patient otherWithBobIc = new PatientBuilder().withName("Other Bob").withIC(BOB.getIC().toString()).build();
+        List<Patient> listWithSameIcs = Arrays.asList(ALICE, BOB, otherWithBobIc, otherWithAliceIc);
+        String expectedMessage = "Operation would result in patients with the same IC: " + BOB.getIC() + ", "
+                + ALICE.getIC();
+        assertThrows(DuplicateIcException.class, expectedMessage, () ->
+                uniquePatientList.setPatients(listWithSameIcs));
+        assertTrue(uniquePatientList.asUnmodifiableList().isEmpty());
+    }
+
+    @Test
+    public void setPatients_largeList_loadsAllPatients() {
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            patients.add(new PatientBuilder().withName("Patient " + i).withIC(String.format("S%07dA", i)).build());
+        }
+        uniquePatientList.setPatients(patients);
+        assertEquals(patients, uniquePatientList.asUnmodifiableList());
+        assertTrue(uniquePatientList.contains(new PatientBuilder().withName("Patient 49999").build()));
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniquePatientList.asUnmodifiableObservableList().remove(0));
+            -> uniquePatientList.asUnmodifiableList().remove(0));
     }
 
     @Test
     public void toStringMethod() {
-        assertEquals(uniquePatientList.asUnmodifiableObservableList().toString(), uniquePatientList.toString());
+        assertEquals(uniquePatientList.asUnmodifiableList().toString(), uniquePatientList.toString());
     }
 }
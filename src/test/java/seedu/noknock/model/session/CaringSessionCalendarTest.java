@@ -0,0 +1,148 @@
+package seedu.noknock.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.CaringSessionBuilder;
+
+public class CaringSessionCalendarTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 10, 20);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2025, 10, 21);
+
+    private final CaringSession aliceMorning = createSession("Bathing", FIRST_DATE, "08:00");
+    private final CaringSession aliceNextDay = createSession("Feeding", SECOND_DATE, "08:00");
+    private final CaringSession bensonMorning = createSession("Medication", FIRST_DATE, "08:00");
+    private final CaringSession bensonEarly = createSession("Checkup", FIRST_DATE, "07:00");
+    private final Patient alice = ALICE.withCaringSessionList(List.of(aliceNextDay, aliceMorning));
+    private final Patient benson = BENSON.withCaringSessionList(List.of(bensonMorning, bensonEarly));
+
+    private final CaringSessionCalendar calendar = new CaringSessionCalendar();
+
+    @Test
+    public void addSessionsOf_nullPatient_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> calendar.addSessionsOf(null));
+    }
+
+    @Test
+    public void addSessionsOf_patients_groupedByDateAndOrderedByTime() {
+        assertEquals(Set.of(FIRST_DATE, SECOND_DATE), calendar.addSessionsOf(alice));
+        assertEquals(Set.of(FIRST_DATE), calendar.addSessionsOf(benson));
+
+        assertEquals(List.of(FIRST_DATE, SECOND_DATE), List.copyOf(calendar.getDates()));
+        assertEquals(List.of(new PatientCaringSession(benson, bensonEarly),
+                new PatientCaringSession(alice, aliceMorning),
+                new PatientCaringSession(benson, bensonMorning)), calendar.getSessionsOn(FIRST_DATE));
+        assertEquals(List.of(new PatientCaringSession(alice, aliceNextDay)), calendar.getSessionsOn(SECOND_DATE));
+        assertEquals(4, calendar.size());
+    }
+
+    @Test
+    public void removeSessionsOf_addedPatient_removesOnlyItsSessions() {
+        calendar.addSessionsOf(alice);
+        calendar.addSessionsOf(benson);
+
+        assertEquals(Set.of(FIRST_DATE, SECOND_DATE), calendar.removeSessionsOf(alice));
+
+        assertEquals(List.of(FIRST_DATE), List.copyOf(calendar.getDates()));
+        assertEquals(List.of(new PatientCaringSession(benson, bensonEarly),
+                new PatientCaringSession(benson, bensonMorning)), calendar.getSessionsOn(FIRST_DATE));
+        assertTrue(calendar.getSessionsOn(SECOND_DATE).isEmpty());
+        assertEquals(2, calendar.size());
+    }
+
+    @Test
+    public void removeSessionsOf_replacedPatient_keepsNewSessions() {
+        calendar.addSessionsOf(alice);
+        Patient editedAlice = alice.withCaringSessionList(List.of(aliceMorning));
+        calendar.addSessionsOf(editedAlice);
+
+        assertEquals(Set.of(FIRST_DATE, SECOND_DATE), calendar.removeSessionsOf(alice));
+
+        assertEquals(List.of(new PatientCaringSession(editedAlice, aliceMorning)),
+                calendar.getSessionsOn(FIRST_DATE));
+        assertTrue(calendar.getSessionsOn(FIRST_DATE).get(0).getPatient() == editedAlice);
+        assertEquals(1, calendar.size());
+    }
+
+    @Test
+    public void removeSessionsOf_patientNotAdded_noChange() {
+        calendar.addSessionsOf(alice);
+        assertTrue(calendar.removeSessionsOf(benson).isEmpty());
+        assertEquals(2, calendar.size());
+    }
+
+    @Test
+    public void clear_withSessions_empty() {
+        calendar.addSessionsOf(alice);
+        calendar.clear();
+        assertTrue(calendar.getDates().isEmpty());
+        assertEquals(0, calendar.size());
+    }
+
+    @Test
+    public void getSessionsOn_modifyList_throwsUnsupportedOperationException() {
+        calendar.addSessionsOf(alice);
+        assertThrows(UnsupportedOperationException.class, () -> calendar.getSessionsOn(FIRST_DATE).remove(0));
+    }
+
+    @Test
+    public void getSessionsBetween_range_sessionsOnDatesInRangeInOrder() {
+        calendar.addSessionsOf(alice);
+        calendar.addSessionsOf(benson);
+
+        assertEquals(List.of(new PatientCaringSession(benson, bensonEarly),
+                new PatientCaringSession(alice, aliceMorning),
+                new PatientCaringSession(benson, bensonMorning),
+                new PatientCaringSession(alice, aliceNextDay)),
+                calendar.getSessionsBetween(FIRST_DATE.minusDays(1), SECOND_DATE));
+        assertEquals(List.of(new PatientCaringSession(alice, aliceNextDay)),
+                calendar.getSessionsBetween(SECOND_DATE, SECOND_DATE));
+        assertTrue(calendar.getSessionsBetween(SECOND_DATE, FIRST_DATE).isEmpty());
+    }
+
+    @Test
+    public void getSessionsBefore_dateTime_earlierDatesAndEarlierTimesOnSameDate() {
+        calendar.addSessionsOf(alice);
+        calendar.addSessionsOf(benson);
+
+        // sessions at exactly the given time are not before it
+        assertEquals(List.of(new PatientCaringSession(benson, bensonEarly),
+                new PatientCaringSession(alice, aliceMorning),
+                new PatientCaringSession(benson, bensonMorning)),
+                calendar.getSessionsBefore(LocalDateTime.of(SECOND_DATE, LocalTime.of(8, 0))));
+        assertEquals(List.of(new PatientCaringSession(benson, bensonEarly)),
+                calendar.getSessionsBefore(LocalDateTime.of(FIRST_DATE, LocalTime.of(7, 30))));
+        assertTrue(calendar.getSessionsBefore(LocalDateTime.of(FIRST_DATE, LocalTime.MIDNIGHT)).isEmpty());
+    }
+
+    @Test
+    public void constructor_sessionFilter_onlyMatchingSessionsKept() {
+        CaringSessionCalendar medicationCalendar =
+                new CaringSessionCalendar(session -> session.getCareType().value.equals("Medication"));
+
+        assertEquals(Set.of(FIRST_DATE), medicationCalendar.addSessionsOf(benson));
+        assertEquals(List.of(new PatientCaringSession(benson, bensonMorning)),
+                medicationCalendar.getSessionsOn(FIRST_DATE));
+        assertEquals(1, medicationCalendar.size());
+
+        assertEquals(Set.of(FIRST_DATE), medicationCalendar.removeSessionsOf(benson));
+        assertEquals(0, medicationCalendar.size());
+    }
+
+    private static CaringSession createSession(String careType, LocalDate date, String time) {
+        return new CaringSessionBuilder().withCareType(careType).withDate(date.toString()).withTime(time).build();
+    }
+}
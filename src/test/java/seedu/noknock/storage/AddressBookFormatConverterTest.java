@@ -0,0 +1,70 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.commons.core.DataFileFormat;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void detectFormat_eachFormat_detected() throws Exception {
+        Path jsonPath = testFolder.resolve("ab.json");
+        Path binaryPath = testFolder.resolve("ab.bin");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(Optional.of(DataFileFormat.JSON), AddressBookFormatConverter.detectFormat(jsonPath));
+        assertEquals(Optional.of(DataFileFormat.BINARY), AddressBookFormatConverter.detectFormat(binaryPath));
+        assertFalse(AddressBookFormatConverter.detectFormat(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        Path jsonPath = testFolder.resolve("ab.json");
+        Path binaryPath = testFolder.resolve("ab.bin");
+        Path exportPath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(jsonPath, binaryPath, DataFileFormat.BINARY);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        AddressBookFormatConverter.convert(binaryPath, exportPath, DataFileFormat.JSON);
+        assertEquals(FileUtil.readFromFile(jsonPath), FileUtil.readFromFile(exportPath));
+    }
+
+    @Test
+    public void convert_inPlace_keepsPreviousFormatAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(filePath, filePath, DataFileFormat.BINARY);
+
+        assertEquals(Optional.of(DataFileFormat.BINARY), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(Optional.of(DataFileFormat.JSON),
+                AddressBookFormatConverter.detectFormat(FileUtil.getBackupPath(filePath, 1)));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("ab.bin"), DataFileFormat.BINARY));
+    }
+}
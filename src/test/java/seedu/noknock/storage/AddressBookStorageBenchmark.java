@@ -0,0 +1,62 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.testutil.Benchmark;
+
+/**
+ * Times saving and loading address books with many caring sessions in the binary format, against the JSON format.
+ */
+@Tag(Benchmark.TAG)
+public class AddressBookStorageBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 50_000};
+    /** Next-of-kin and caring sessions of each patient, so the largest size has 200,000 sessions. */
+    private static final int ENTRIES_PER_PATIENT = 4;
+    private static final int RUNS = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndLoad_growingAddressBook_binaryComparedWithJson() throws Exception {
+        for (int size : SIZES) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPatients(Benchmark.generatePatients(size, ENTRIES_PER_PATIENT, size));
+            benchmark("json", new JsonAddressBookStorage(testFolder.resolve(size + ".json")), addressBook, size);
+            benchmark("binary", new BinaryAddressBookStorage(testFolder.resolve(size + ".bin")), addressBook, size);
+        }
+    }
+
+    private static void benchmark(String format, AddressBookStorage storage, AddressBook addressBook, int size)
+            throws IOException, DataLoadingException {
+        Benchmark.report("save " + format, "", size,
+                Benchmark.medianNanos(RUNS, () -> {
+                    try {
+                        storage.saveAddressBook(addressBook);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+        Benchmark.report("load " + format, Files.size(storage.getAddressBookFilePath()) / 1024 + " KiB file", size,
+                Benchmark.medianNanos(RUNS, () -> {
+                    try {
+                        storage.readAddressBook();
+                    } catch (DataLoadingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.HOON;
+import static seedu.noknock.testutil.TypicalPatients.IDA;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_writesLatestState() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.flushAddressBook();
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_coalescesQueuedSaves() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await();
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie);
+                }
+                writeCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        writeStarted.await();
+        for (int i = 0; i < 5; i++) {
+            storage.saveAddressBook(addressBook);
+        }
+        addressBook.addPatient(IDA);
+        storage.saveAddressBook(addressBook);
+        releaseWrite.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFailed_reportsFailureOnNextSave() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                });
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, failure.getMessage(), storage::flushAddressBook);
+
+        storage.saveAddressBook(new AddressBook());
+        storage.readAddressBook(); // runs after the queued write has failed
+        assertThrows(IOException.class, failure.getMessage(), () -> storage.saveAddressBook(new AddressBook()));
+    }
+
+    @Test
+    public void flushAddressBook_backgroundWriteThrewRuntimeException_reportsFailureAndRetries() throws Exception {
+        RuntimeException failure = new IllegalStateException("dummy runtime exception");
+        AtomicInteger writeCount = new AtomicInteger();
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.getAndIncrement() == 0) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, failure.toString(), storage::flushAddressBook);
+
+        storage.flushAddressBook();
+        assertEquals(2, writeCount.get());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesImmediately() throws Exception {
+        AsyncAddressBookStorage storage =
+                new AsyncAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        Path otherPath = testFolder.resolve("other.json");
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook, otherPath);
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(otherPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        AsyncAddressBookStorage storage =
+                new AsyncAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.HOON;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.Phone;
+import seedu.noknock.model.person.Relationship;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final NextOfKin NEXT_OF_KIN =
+            new NextOfKin(new Name("Bob Pauline"), new Phone("91234567"), Relationship.SON);
+    private static final CaringSession SESSION = new CaringSession(new CareType("Medication"),
+            new Note("Before meals"), new Date("2025-10-20"), new Time("09:30"), SessionStatus.COMPLETED);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.setPatient(ALICE, ALICE.withNextOfKinList(List.of(NEXT_OF_KIN)).withCaringSessionList(
+                List.of(SESSION, new CaringSession(new CareType("Physiotherapy"), new Note(""),
+                        new Date("2025-10-19"), new Time("23:59"), SessionStatus.INCOMPLETE))));
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertPatientDetailsEqual(original.getPatientList(), readBack.getPatientList());
+
+        original.addPatient(HOON);
+        original.removePatient(BENSON);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertPatientDetailsEqual(original.getPatientList(), readBack.getPatientList());
+    }
+
+    @Test
+    public void readAddressBook_sharedValues_internedAcrossPatients() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = new AddressBook();
+        original.addPatient(new PatientBuilder().withName("Amy Bee").withWard("3C").withIC("S0000001A").build()
+                .withCaringSessionList(List.of(SESSION)));
+        original.addPatient(new PatientBuilder().withName("Bob Choo").withWard("3C").withIC("S0000002A").build()
+                .withCaringSessionList(List.of(SESSION)));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<Patient> readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPatientList();
+        assertTrue(readBack.get(0).getWard() == readBack.get(1).getWard());
+        assertTrue(readBack.get(0).getCaringSessionList().get(0).getCareType()
+                == readBack.get(1).getCaringSessionList().get(0).getCareType());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        FileUtil.writeAtomically(filePath, 0, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+            dataOut.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+            dataOut.flush();
+        });
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptCounts_throwsDataLoadingException() throws Exception {
+        Path stringCountPath = testFolder.resolve("strings.bin");
+        FileUtil.writeAtomically(stringCountPath, 0, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+            dataOut.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+            dataOut.writeInt(Integer.MAX_VALUE);
+            dataOut.flush();
+        });
+        Path patientCountPath = testFolder.resolve("patients.bin");
+        FileUtil.writeAtomically(patientCountPath, 0, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+            dataOut.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+            dataOut.writeInt(0);
+            dataOut.writeInt(Integer.MAX_VALUE);
+            dataOut.flush();
+        });
+
+        // the counts are far larger than the files, and are rejected without allocating for them
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(stringCountPath).readAddressBook());
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(patientCountPath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_recoversFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPatient(HOON);
+        storage.saveAddressBook(edited);
+
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 5));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_manySessions_smallerThanJson() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        List<CaringSession> sessions = new ArrayList<>();
+        for (int day = 0; day < 365; day++) {
+            sessions.add(new CaringSession(new CareType("Medication"), new Note("Daily dose"),
+                    new Date(LocalDate.of(2025, 1, 1).plusDays(day)), new Time("09:00"),
+                    SessionStatus.COMPLETED));
+        }
+        addressBook.addPatient(ALICE.withNextOfKinList(List.of(NEXT_OF_KIN)).withCaringSessionList(sessions));
+        Path binaryPath = testFolder.resolve("ab.bin");
+        Path jsonPath = testFolder.resolve("ab.json");
+
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryPath) * 4 < Files.size(jsonPath));
+        assertPatientDetailsEqual(addressBook.getPatientList(),
+                new BinaryAddressBookStorage(binaryPath).readAddressBook().get().getPatientList());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static void assertPatientDetailsEqual(List<Patient> expected, List<Patient> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getNextOfKinList(), actual.get(i).getNextOfKinList());
+            assertEquals(expected.get(i).getCaringSessionList(), actual.get(i).getCaringSessionList());
+        }
+    }
+}
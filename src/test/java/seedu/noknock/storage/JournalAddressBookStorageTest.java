@@ -0,0 +1,211 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.HOON;
+import static seedu.noknock.testutil.TypicalPatients.IDA;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsChangesToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPatient(HOON);
+        addressBook.removePatient(ALICE);
+        addressBook.setPatient(BENSON, new PatientBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        // the header, and one line per change
+        assertEquals(4, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_renamedPatient_keepsPosition() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPatient(BENSON, IDA);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getPatientList(), readBack.getPatientList());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPatient(ALICE);
+        addressBook.addPatient(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalPath));
+
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_pendingJournal_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.flushAddressBook();
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_skipsEntry() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"put\",\"ind".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_malformedEntryBeforeEnd_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        Files.write(journalPath, ("not json" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        addressBook.addPatient(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_crashDuringCompaction_ignoresStaleJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // the removal of HOON is never journalled, as it pushes the journal past the threshold
+        addressBook.removePatient(HOON);
+        addressBook.removePatient(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+
+        // simulates a crash after the snapshot was rewritten but before the journal was discarded
+        Files.write(journalPath, journal);
+
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath, 2);
+        ReadOnlyAddressBook readBack = restartedStorage.readAddressBook().get();
+        assertEquals(addressBook.getPatientList(), readBack.getPatientList());
+
+        // the stale journal is replaced by the next save rather than appended to
+        addressBook.addPatient(IDA);
+        restartedStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeSnapshotWritten_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook journalledAddressBook = new AddressBook(addressBook);
+        byte[] journal = Files.readAllBytes(JournalAddressBookStorage.getJournalFilePath(filePath));
+
+        addressBook.removePatient(ALICE);
+        addressBook.removePatient(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // simulates a crash before the new snapshot replaced the old one
+        Files.write(filePath, snapshot);
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath), journal);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(journalledAddressBook.getPatientList(), readBack.getPatientList());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesFullSnapshot() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        Path otherPath = testFolder.resolve("other.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, otherPath);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherPath)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(otherPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
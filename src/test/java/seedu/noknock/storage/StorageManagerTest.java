@@ -2,21 +2,30 @@ package seedu.noknock.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.commons.exceptions.DataLoadingException;
 import seedu.noknock.model.AddressBook;
 import seedu.noknock.model.ReadOnlyAddressBook;
 import seedu.noknock.model.UserPrefs;
 
 public class StorageManagerTest {
 
+    private static final Path DUPLICATE_IC_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "duplicateIcAddressBook.json");
+
     @TempDir
     public Path testFolder;
 
@@ -60,6 +69,37 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_dataFileFailedToLoad_refusesToOverwrite() throws Exception {
+        Path dataFile = storageManager.getAddressBookFilePath();
+        Files.copy(DUPLICATE_IC_FILE, dataFile);
+        byte[] unloadable = Files.readAllBytes(dataFile);
+        assertThrows(DataLoadingException.class, () -> storageManager.readAddressBook());
+
+        assertThrows(IOException.class, String.format(StorageManager.MESSAGE_DATA_FILE_NOT_LOADED, dataFile,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_IC), () -> storageManager.saveAddressBook(
+                        getTypicalAddressBook()));
+        assertEquals(new String(unloadable), Files.readString(dataFile));
+
+        // other files can still be saved to
+        Path otherFile = getTempFilePath("other");
+        storageManager.saveAddressBook(getTypicalAddressBook(), otherFile);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook(otherFile).get()));
+    }
+
+    @Test
+    public void saveAddressBook_dataFileFixed_savesAgain() throws Exception {
+        Path dataFile = storageManager.getAddressBookFilePath();
+        Files.copy(DUPLICATE_IC_FILE, dataFile);
+        assertThrows(DataLoadingException.class, () -> storageManager.readAddressBook());
+
+        storageManager.saveAddressBook(getTypicalAddressBook(), getTempFilePath("fixed"));
+        Files.move(getTempFilePath("fixed"), dataFile, StandardCopyOption.REPLACE_EXISTING);
+        storageManager.readAddressBook();
+        storageManager.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,100 @@
+package seedu.noknock.testutil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * Helpers for the benchmarks, which are tagged {@value #TAG} so that they are left out of the tests, and are run
+ * with {@code gradlew benchmark} instead. Each benchmark prints the median time of its runs at a few sizes, so that
+ * how the time grows with the size can be read off the printed table.
+ */
+public class Benchmark {
+
+    public static final String TAG = "benchmark";
+
+    private static final int WARM_UP_RUNS = 10;
+    /** Time after which warming up stops early, so that slow tasks are not run many times over. */
+    private static final long WARM_UP_NANOS = 2_000_000_000L;
+    private static final String[] SYLLABLES = {"ka", "lin", "mo", "ra", "ben", "so", "tan", "li", "wei", "ng",
+        "chu", "ia", "mei", "er", "da", "niel", "hoon", "fi", "o", "na", "el", "le", "ku", "rz", "al", "ice"};
+    private static final String[] CARE_TYPES = {"Physiotherapy", "Wound dressing", "Medication", "Bathing"};
+
+    /**
+     * Returns the median time in nanoseconds of {@code runs} runs of {@code task}, after up to a few seconds of runs
+     * to warm up.
+     */
+    public static long medianNanos(int runs, Runnable task) {
+        long warmUpStart = System.nanoTime();
+        for (int i = 0; i < WARM_UP_RUNS && System.nanoTime() - warmUpStart < WARM_UP_NANOS; i++) {
+            task.run();
+        }
+        long[] times = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[runs / 2];
+    }
+
+    /**
+     * Prints a line of the table of a benchmark, with the time it took for {@code size} items.
+     */
+    public static void report(String benchmark, String variant, int size, long nanos) {
+        System.out.printf("%-28s %-28s %9d items %12.3f ms %10.1f ns/item%n", benchmark, variant, size,
+                nanos / 1e6, (double) nanos / Math.max(size, 1));
+    }
+
+    /**
+     * Returns {@code count} patients with made-up names that share words and have unique ICs, each with
+     * {@code entriesPerPatient} next-of-kin and as many caring sessions. The same {@code seed} gives the same
+     * patients.
+     */
+    public static List<Patient> generatePatients(int count, int entriesPerPatient, long seed) {
+        Random random = new Random(seed);
+        List<Patient> patients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<NextOfKin> nextOfKins = new ArrayList<>();
+            List<CaringSession> sessions = new ArrayList<>();
+            for (int j = 0; j < entriesPerPatient; j++) {
+                nextOfKins.add(new NextOfKinBuilder().withName(generateName(random))
+                        .withPhone(String.valueOf(80000000 + random.nextInt(10000000))).build());
+                sessions.add(new CaringSessionBuilder().withCareType(CARE_TYPES[random.nextInt(CARE_TYPES.length)])
+                        .withDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)).toString())
+                        .withTime(String.format("%02d:%02d", random.nextInt(24), random.nextInt(4) * 15)).build());
+            }
+            patients.add(new PatientBuilder().withName(generateName(random) + " " + i)
+                    .withIC(String.format("S%07dA", i))
+                    .withWard((1 + random.nextInt(20)) + "A")
+                    .build()
+                    .withNextOfKinList(nextOfKins)
+                    .withCaringSessionList(sessions));
+        }
+        return patients;
+    }
+
+    /**
+     * Returns a name of two made-up words, drawn from a few thousand words so that many names share words.
+     */
+    private static String generateName(Random random) {
+        return generateWord(random) + " " + generateWord(random);
+    }
+
+    private static String generateWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.noknock.ui;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.Benchmark;
+
+/**
+ * Times the frames of scrolling the patient and session lists through 10,000 patients on the JavaFX application
+ * thread. Each frame scrolls a few rows and then applies CSS and lays out the scene, which is where the list cells
+ * are updated; drawing the frame is left out. Skipped when JavaFX cannot start, such as when there is no display.
+ */
+@Tag(Benchmark.TAG)
+public class ListPanelBenchmark {
+
+    private static final int PATIENTS = 10_000;
+    /** Caring sessions of each patient, so the session list has 20,000 sessions and their date headers. */
+    private static final int ENTRIES_PER_PATIENT = 2;
+    private static final int FRAMES = 1_000;
+    private static final int WARM_UP_FRAMES = 200;
+    private static final int ROWS_PER_FRAME = 3;
+    private static final int WIDTH = 460;
+    private static final int HEIGHT = 800;
+
+    private static ObservableList<Patient> patients;
+
+    @BeforeAll
+    public static void startJavaFx() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // already started by another benchmark
+            started.countDown();
+        } catch (UnsupportedOperationException e) {
+            assumeTrue(false, "JavaFX cannot start: " + e.getMessage());
+        }
+        started.await();
+        // keeps JavaFX running after each benchmark hides its stage
+        Platform.setImplicitExit(false);
+        patients = FXCollections.observableArrayList(
+                Benchmark.generatePatients(PATIENTS, ENTRIES_PER_PATIENT, PATIENTS));
+    }
+
+    @Test
+    public void scroll_patientList_reusedCardsComparedWithNewCards() throws Exception {
+        benchmarkScrolling("scroll patient list", "card reused per cell", () -> new PatientPanel(patients).getRoot(),
+                root -> {});
+        benchmarkScrolling("scroll patient list", "new card per update", () -> new PatientPanel(patients).getRoot(),
+                ListPanelBenchmark::buildNewCardPerUpdate);
+    }
+
+    @Test
+    public void scroll_sessionList_reusedCards() throws Exception {
+        Supplier<Parent> panel = () -> new CaringSessionPanel(patients).getRoot();
+        benchmarkScrolling("scroll session list", "card reused per cell", panel, root -> {});
+    }
+
+    /**
+     * Shows the panel built by {@code panel}, after {@code setUp} is applied to it, and prints the median and slowest
+     * 1% of the times of scrolling its list down {@link #FRAMES} times.
+     */
+    private static void benchmarkScrolling(String benchmark, String variant, Supplier<Parent> panel,
+            Consumer<Parent> setUp) throws Exception {
+        FutureTask<long[]> scrolling = new FutureTask<>(() -> {
+            Parent root = panel.get();
+            setUp.accept(root);
+            Scene scene = new Scene(root, WIDTH, HEIGHT);
+            scene.getStylesheets().addAll(List.of("/view/DarkTheme.css", "/view/Extensions.css"));
+            Stage stage = new Stage();
+            stage.setScene(scene);
+            stage.show();
+            try {
+                ListView<?> listView = (ListView<?>) root.lookup(".list-view");
+                scrollFrames(root, listView, WARM_UP_FRAMES);
+                return scrollFrames(root, listView, FRAMES);
+            } finally {
+                stage.hide();
+            }
+        });
+        Platform.runLater(scrolling);
+        long[] frames = scrolling.get();
+        Arrays.sort(frames);
+        Benchmark.report(benchmark, variant + ", median", PATIENTS, frames[frames.length / 2]);
+        Benchmark.report(benchmark, variant + ", 99th pct", PATIENTS, frames[frames.length * 99 / 100]);
+    }
+
+    /**
+     * Scrolls {@code listView} from its top {@code count} times, and returns the time each scroll took to apply.
+     */
+    private static long[] scrollFrames(Parent root, ListView<?> listView, int count) {
+        long[] times = new long[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            listView.scrollTo(i * ROWS_PER_FRAME);
+            root.applyCss();
+            root.layout();
+            times[i] = System.nanoTime() - start;
+        }
+        return times;
+    }
+
+    /**
+     * Makes the patient list in {@code root} build a new card on every update of its cells, as it did before the
+     * cells kept their cards, to compare against.
+     */
+    @SuppressWarnings("unchecked")
+    private static void buildNewCardPerUpdate(Parent root) {
+        ListView<Patient> listView = (ListView<Patient>) root.lookup(".list-view");
+        listView.setCellFactory(view -> new ListCell<>() {
+            @Override
+            protected void updateItem(Patient patient, boolean empty) {
+                super.updateItem(patient, empty);
+                setText(null);
+                setGraphic(empty || patient == null ? null : new PatientCard(patient, getIndex() + 1, false).getRoot());
+            }
+        });
+    }
+}
@@ -2,6 +2,8 @@ package seedu.noknock.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.noknock.testutil.Assert.assertThrows;
 
 import java.net.URL;
@@ -57,6 +59,22 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl, root).getRoot());
     }
 
+    @Test
+    public void constructor_sameFileUrlTwice_loadsSeparateHierarchies() {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        TestFxmlObject firstRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        TestFxmlObject secondRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        assertEquals(VALID_FILE_ROOT, secondRoot);
+        assertNotSame(firstRoot, secondRoot);
+    }
+
+    @Test
+    public void constructor_root_usesRootWithoutFxmlFile() {
+        Object root = new Object();
+        assertSame(root, new UiPart<Object>(root) {}.getRoot());
+        assertThrows(NullPointerException.class, () -> new UiPart<Object>((Object) null) {});
+    }
+
     @Test
     public void constructor_nullFileName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TestUiPart<Object>((String) null));